@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+# Builds the JMH uber-jar and runs every benchmark with the GC allocation profiler.
+# Results are written as JSON (default benchmarks/target/jmh-result.json) so two runs can be
+# diffed, e.g. with https://jmh.morethan.io or jq.
+#
+# Extra arguments are passed to JMH, e.g. a benchmark filter or quick settings:
+#   benchmarks/run-benchmarks.sh Mapper -f 1 -wi 2 -i 3
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RESULT="${RESULT:-$ROOT/benchmarks/target/jmh-result.json}"
+
+(cd "$ROOT" && mvn -q -B -DskipTests -P benchmarks -pl benchmarks -am package)
+
+cd "$ROOT/benchmarks"
+java -jar target/benchmarks.jar -prof gc -rf json -rff "$RESULT" "$@"
+echo "Results written to $RESULT"
@@ -0,0 +1,352 @@
+package com.library.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.admission.BookAdmission;
+import com.library.bloom.IsbnFilter;
+import com.library.cache.JsonResponseCache;
+import com.library.controller.LibraryController;
+import com.library.exception.ErrorResponseWriter;
+import com.library.exception.GlobalExceptionHandler;
+import com.library.filter.RequestFilter;
+import com.library.mapper.LibraryMapper;
+import com.library.metrics.LibraryMetrics;
+import com.library.model.Book;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import com.library.repository.LoanRepository;
+import com.library.repository.OutboxRepository;
+import com.library.repository.ReservationRepository;
+import com.library.retry.ConflictRetryTemplate;
+import com.library.service.BookService;
+import com.library.service.BorrowerService;
+import com.library.service.BorrowingService;
+import com.library.service.ChangeFeedService;
+import com.library.service.ExportService;
+import com.library.service.LoanService;
+import com.library.service.SuggestionService;
+import com.library.stream.AvailabilityBroadcaster;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A whole request through {@link RequestFilter} and a real {@link DispatcherServlet}: handler
+ * lookup, argument resolution, {@link LibraryController}, the service and mapper, and message
+ * conversion. Only the repository is replaced, by an in-memory stub, so the numbers exclude
+ * database time.
+ * <p>
+ * With {@code metrics=true} the request also passes through the observation filter that records
+ * {@code http.server.requests} into a Prometheus registry with the percentile histogram the
+ * service enables, and the error counters record into the same registry; comparing the two
+ * settings gives the instrumentation overhead per request.
+ */
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    private static final UUID KNOWN_BOOK_ID = Fixtures.book(42).getId();
+
+    @Param({"/api/v1/books?limit=20", "/api/v1/books/00000000-0000-5eed-0000-00000000002a",
+            "/api/v1/books/00000000-0000-0000-0000-000000000000"})
+    public String uri;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private MockServletContext servletContext;
+    private AnnotationConfigWebApplicationContext context;
+    private DispatcherServlet dispatcherServlet;
+    private RequestFilter requestFilter;
+    private ServerHttpObservationFilter observationFilter;
+    private UriComponents requestUri;
+    private Map<String, String> parameters;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        MeterRegistry meterRegistry = metrics ? prometheusRegistry() : new CompositeMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        observationFilter = new ServerHttpObservationFilter(observationRegistry);
+
+        servletContext = new MockServletContext();
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(servletContext);
+        context.addBeanFactoryPostProcessor(beanFactory -> beanFactory.registerSingleton("meterRegistry", meterRegistry));
+        context.register(WebConfig.class);
+        context.refresh();
+
+        dispatcherServlet = new DispatcherServlet(context);
+        dispatcherServlet.init(new MockServletConfig(servletContext));
+        requestFilter = context.getBean(RequestFilter.class);
+        requestUri = UriComponentsBuilder.fromUriString(uri).build();
+        parameters = requestUri.getQueryParams().toSingleValueMap();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dispatcherServlet.destroy();
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse dispatch() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", requestUri.getPath());
+        request.setQueryString(requestUri.getQuery());
+        request.setParameters(parameters);
+        request.addHeader(Fixtures.CORRELATION_ID_HEADER, Fixtures.CORRELATION_ID);
+        BufferedResponse response = new BufferedResponse();
+        MockFilterChain chain = metrics
+                ? new MockFilterChain(dispatcherServlet, observationFilter, requestFilter)
+                : new MockFilterChain(dispatcherServlet, requestFilter);
+        chain.doFilter(request, response);
+        return response;
+    }
+
+    /** Mirrors the management.metrics.distribution.* settings in application.properties. */
+    private static MeterRegistry prometheusRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("http.server.requests")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+        return registry;
+    }
+
+    /**
+     * {@link MockHttpServletResponse}'s output stream only implements {@code write(int)}, so every
+     * body would be copied a byte at a time; this one accepts bulk writes like a container does.
+     */
+    static final class BufferedResponse extends MockHttpServletResponse {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                body.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public byte[] getContentAsByteArray() {
+            return body.toByteArray();
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            body.reset();
+        }
+    }
+
+    /**
+     * The servlet-side beans of the application, wired by hand around a stub book repository.
+     * Collaborators the benchmarked GETs do not touch are stubs that throw when called.
+     */
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        private static final ApplicationEventPublisher NO_EVENTS = event -> { };
+        private static final PlatformTransactionManager NO_TRANSACTIONS = unsupported(PlatformTransactionManager.class);
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Fixtures.objectMapper();
+        }
+
+        @Bean
+        LibraryMetrics libraryMetrics(MeterRegistry meterRegistry) {
+            return new LibraryMetrics(meterRegistry);
+        }
+
+        @Bean
+        LibraryMapper libraryMapper() {
+            return new LibraryMapper();
+        }
+
+        @Bean
+        BookRepository bookRepository() {
+            return stubBookRepository();
+        }
+
+        @Bean
+        BookService bookService(BookRepository bookRepository, LibraryMapper libraryMapper) {
+            return new BookService(bookRepository, unsupported(OutboxRepository.class), libraryMapper,
+                    Validation.buildDefaultValidatorFactory().getValidator(), unsupported(EntityManager.class),
+                    NO_EVENTS, new IsbnFilter(bookRepository, 1_000, 0.01), new TransactionTemplate(NO_TRANSACTIONS));
+        }
+
+        @Bean
+        BorrowerService borrowerService(LibraryMapper libraryMapper) {
+            return new BorrowerService(unsupported(BorrowerRepository.class), libraryMapper, NO_EVENTS);
+        }
+
+        @Bean
+        BorrowingService borrowingService(BookRepository bookRepository, LibraryMapper libraryMapper,
+                                          LibraryMetrics libraryMetrics, MeterRegistry meterRegistry) {
+            return new BorrowingService(bookRepository, unsupported(BorrowerRepository.class),
+                    unsupported(ReservationRepository.class), libraryMapper, NO_EVENTS, libraryMetrics,
+                    new ConflictRetryTemplate(NO_TRANSACTIONS, meterRegistry, 4, Duration.ofMillis(10),
+                            Duration.ofMillis(200), Duration.ofSeconds(1)),
+                    new BookAdmission(meterRegistry, true, 10_000, Duration.ofSeconds(2)));
+        }
+
+        @Bean
+        ExportService exportService(BookRepository bookRepository, LibraryMapper libraryMapper, ObjectMapper objectMapper) {
+            return new ExportService(bookRepository, unsupported(BorrowerRepository.class), libraryMapper, objectMapper,
+                    unsupported(EntityManager.class));
+        }
+
+        @Bean
+        LoanService loanService(BookRepository bookRepository, LibraryMapper libraryMapper) {
+            return new LoanService(unsupported(LoanRepository.class), bookRepository, unsupported(BorrowerRepository.class),
+                    libraryMapper);
+        }
+
+        @Bean
+        SuggestionService suggestionService(BookRepository bookRepository) {
+            return new SuggestionService(bookRepository);
+        }
+
+        @Bean
+        ChangeFeedService changeFeedService(BookRepository bookRepository, LibraryMapper libraryMapper) {
+            return new ChangeFeedService(bookRepository, unsupported(BorrowerRepository.class), libraryMapper,
+                    Duration.ofSeconds(5));
+        }
+
+        @Bean
+        AvailabilityBroadcaster availabilityBroadcaster() {
+            return new AvailabilityBroadcaster(10_000, 64, Duration.ofSeconds(15), Duration.ofMinutes(30));
+        }
+
+        @Bean
+        JsonResponseCache jsonResponseCache(ObjectMapper objectMapper) {
+            // Zero TTL keeps every GET /books/{id} on the load-and-serialize path
+            return new JsonResponseCache(objectMapper, 10_000, Duration.ZERO);
+        }
+
+        @Bean
+        LibraryController libraryController(BookService bookService, BorrowerService borrowerService,
+                                            BorrowingService borrowingService, ExportService exportService,
+                                            LoanService loanService, SuggestionService suggestionService,
+                                            ChangeFeedService changeFeedService,
+                                            AvailabilityBroadcaster availabilityBroadcaster,
+                                            JsonResponseCache responseCache) {
+            return new LibraryController(bookService, borrowerService, borrowingService, exportService, loanService,
+                    suggestionService, changeFeedService, availabilityBroadcaster, responseCache);
+        }
+
+        @Bean
+        ErrorResponseWriter errorResponseWriter() {
+            return new ErrorResponseWriter();
+        }
+
+        @Bean
+        GlobalExceptionHandler globalExceptionHandler(LibraryMetrics libraryMetrics, ErrorResponseWriter errorResponseWriter) {
+            return new GlobalExceptionHandler(libraryMetrics, errorResponseWriter);
+        }
+
+        @Bean
+        RequestFilter requestFilter(ErrorResponseWriter errorResponseWriter, LibraryMetrics libraryMetrics) {
+            return new RequestFilter(errorResponseWriter, libraryMetrics, 1.0);
+        }
+
+        private static BookRepository stubBookRepository() {
+            List<Book> rows = Fixtures.books(21);
+            Book known = Fixtures.book(42);
+            return stub(BookRepository.class, (proxy, method, args) -> switch (method.getName()) {
+                case "findFirstPage" -> rows.subList(0, Math.min((Integer) args[0], rows.size()));
+                case "findById" -> KNOWN_BOOK_ID.equals(args[0]) ? Optional.of(known) : Optional.empty();
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+        }
+
+        /** A collaborator the benchmarked GETs never reach; any call fails loudly. */
+        private static <T> T unsupported(Class<T> type) {
+            return stub(type, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            });
+        }
+
+        private static <T> T stub(Class<T> type, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "Stub" + type.getSimpleName();
+                        default -> handler.invoke(proxy, method, args);
+                    }));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.library.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.exception.BookNotFoundException;
+import com.library.exception.ErrorCode;
+import com.library.exception.ErrorResponse;
+import com.library.exception.ErrorResponseWriter;
+import com.library.exception.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Error path of a rejected request: creating and throwing the exception, then turning it into
+ * the JSON body.
+ * <p>
+ * {@code stackDepth} is the number of frames between the throw and the handler; a request that
+ * fails in a repository call inside Spring MVC and a transactional proxy is well over a hundred
+ * frames deep, which is what a stack trace has to capture.
+ * <ul>
+ *     <li>{@code throwAndWrite} - the service's path: a stackless {@link BookNotFoundException},
+ *     {@link GlobalExceptionHandler} and {@link ErrorResponseWriter}.</li>
+ *     <li>{@code stackTraceThrowBuildAndSerialize} - the previous path, kept as the baseline: an
+ *     exception with a stack trace, an {@link ErrorResponse} built per request and serialized
+ *     with Jackson.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class ErrorHandlingBenchmark {
+
+    private static final String PATH = "/api/v1/books/00000000-0000-5eed-0000-00000000002a";
+    private static final String MESSAGE = "Book not found with id: 00000000-0000-5eed-0000-00000000002a";
+
+    @Param({"10", "150"})
+    public int stackDepth;
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private ServletWebRequest webRequest;
+    private DispatchBenchmark.BufferedResponse response;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(Fixtures.metrics(), new ErrorResponseWriter());
+        objectMapper = Fixtures.objectMapper();
+        request = new MockHttpServletRequest("GET", PATH);
+        webRequest = new ServletWebRequest(request);
+        response = new DispatchBenchmark.BufferedResponse();
+    }
+
+    @Benchmark
+    public DispatchBenchmark.BufferedResponse throwAndWrite() throws IOException {
+        response.reset();
+        try {
+            throwAt(stackDepth, () -> new BookNotFoundException(MESSAGE));
+        } catch (BookNotFoundException ex) {
+            handler.handleLibraryException(ex, request, response);
+        }
+        return response;
+    }
+
+    @Benchmark
+    public byte[] stackTraceThrowBuildAndSerialize() throws JsonProcessingException {
+        try {
+            throwAt(stackDepth, () -> new IllegalStateException(MESSAGE));
+        } catch (IllegalStateException ex) {
+            ErrorCode errorCode = ErrorCode.BOOK_NOT_FOUND;
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .timestamp(LocalDateTime.now())
+                    .status(errorCode.getHttpStatus().value())
+                    .errorCode(errorCode.getCode())
+                    .error(errorCode.getHttpStatus().getReasonPhrase())
+                    .message(ex.getMessage())
+                    .path(webRequest.getDescription(false).replace("uri=", ""))
+                    .build();
+            return objectMapper.writeValueAsBytes(errorResponse);
+        }
+        throw new AssertionError("unreachable");
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth > 0) {
+            throwAt(depth - 1, exception);
+            return;
+        }
+        throw exception.get();
+    }
+}
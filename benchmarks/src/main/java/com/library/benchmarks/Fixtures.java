@@ -0,0 +1,68 @@
+package com.library.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.metrics.LibraryMetrics;
+import com.library.model.Book;
+import com.library.model.BookStatus;
+import com.library.model.Borrower;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic sample data shared by the benchmarks.
+ */
+final class Fixtures {
+
+    static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    static final String CORRELATION_ID = "bench-7f3c9a12";
+
+    private Fixtures() {
+    }
+
+    /** Configured the way Spring Boot configures the application's ObjectMapper. */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /** Counters backed by the Prometheus registry the service exports through. */
+    static LibraryMetrics metrics() {
+        return new LibraryMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    }
+
+    static Book book(int n) {
+        Book book = Book.builder()
+                .id(new UUID(0x5eedL, n))
+                .isbn(String.format("978-0-%09d", n))
+                .title("The Pragmatic Programmer, volume " + n)
+                .author("Andrew Hunt")
+                .status(n % 3 == 0 ? BookStatus.BORROWED : BookStatus.AVAILABLE)
+                .version(1L)
+                .build();
+        book.setCreatedAt(1_700_000_000_000L + n);
+        book.setUpdatedAt(book.getCreatedAt());
+        return book;
+    }
+
+    static List<Book> books(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(book(i));
+        }
+        return books;
+    }
+
+    static Borrower borrower(int n) {
+        Borrower borrower = Borrower.builder()
+                .id(new UUID(0xb0bL, n))
+                .name("Borrower " + n)
+                .email("borrower" + n + "@example.com")
+                .build();
+        borrower.setCreatedAt(1_700_000_000_000L + n);
+        return borrower;
+    }
+}
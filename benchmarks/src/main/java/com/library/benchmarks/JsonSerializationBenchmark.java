@@ -0,0 +1,43 @@
+package com.library.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.PageResponse;
+import com.library.mapper.LibraryMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson serialization of a single {@link BookResponse} and of a default-size page.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private BookResponse book;
+    private PageResponse<BookResponse> page;
+
+    @Setup
+    public void setUp() {
+        LibraryMapper mapper = new LibraryMapper();
+        objectMapper = Fixtures.objectMapper();
+        book = mapper.toBookResponse(Fixtures.book(42));
+        page = PageResponse.<BookResponse>builder()
+                .items(Fixtures.books(20).stream().map(mapper::toBookResponse).toList())
+                .next("MTcwMDAwMDAwMDAxOTowMDAwMDAwMC0wMDAwLTVlZWQtMDAwMC0wMDAwMDAwMDAwMTM")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] bookResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public byte[] bookPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
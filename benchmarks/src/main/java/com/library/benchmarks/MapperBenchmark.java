@@ -0,0 +1,50 @@
+package com.library.benchmarks;
+
+import com.library.dto.request.BookRequest;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BorrowerResponse;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.model.Borrower;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of the Lombok builder chains in {@link LibraryMapper}.
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private LibraryMapper mapper;
+    private Book book;
+    private Borrower borrower;
+    private BookRequest bookRequest;
+
+    @Setup
+    public void setUp() {
+        mapper = new LibraryMapper();
+        book = Fixtures.book(42);
+        borrower = Fixtures.borrower(42);
+        bookRequest = new BookRequest();
+        bookRequest.setIsbn(book.getIsbn());
+        bookRequest.setTitle(book.getTitle());
+        bookRequest.setAuthor(book.getAuthor());
+    }
+
+    @Benchmark
+    public BookResponse toBookResponse() {
+        return mapper.toBookResponse(book);
+    }
+
+    @Benchmark
+    public BorrowerResponse toBorrowerResponse() {
+        return mapper.toBorrowerResponse(borrower);
+    }
+
+    @Benchmark
+    public Book toBook() {
+        return mapper.toBook(bookRequest);
+    }
+}
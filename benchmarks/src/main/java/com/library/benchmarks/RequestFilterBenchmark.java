@@ -0,0 +1,106 @@
+package com.library.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.library.exception.ErrorResponseWriter;
+import com.library.filter.RequestFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Per-request overhead of {@link RequestFilter}: header check, MDC bookkeeping, the request log
+ * lines and, for rejected requests, the error counter.
+ * <p>
+ * {@code logging} selects how the filter's log lines are written:
+ * <ul>
+ *     <li>{@code off} - INFO disabled for the filter, the floor for everything else;</li>
+ *     <li>{@code sync} - straight to the file appender in this module's logback.xml, on the request thread;</li>
+ *     <li>{@code async} - through an {@link AsyncAppender} in front of the same file appender, as the service
+ *     does. Once the queue is 80% full INFO events are dropped, so a saturating benchmark ends up measuring
+ *     the enqueue-or-discard path, which is also what the service does when the disk falls behind;</li>
+ *     <li>{@code async-sampled} - as {@code async} with one successful request in ten logged.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+public class RequestFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"off", "sync", "async", "async-sampled"})
+    public String logging;
+
+    private RequestFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest requestWithoutHeader;
+    private MockHttpServletResponse response;
+
+    private Logger filterLogger;
+    private AsyncAppender asyncAppender;
+
+    @Setup
+    public void setUp() {
+        configureLogging();
+        double sampleRate = logging.equals("async-sampled") ? 0.1 : 1.0;
+        filter = new RequestFilter(new ErrorResponseWriter(), Fixtures.metrics(), sampleRate);
+        request = new MockHttpServletRequest("GET", "/api/v1/books/00000000-0000-5eed-0000-00000000002a");
+        request.addHeader(Fixtures.CORRELATION_ID_HEADER, Fixtures.CORRELATION_ID);
+        requestWithoutHeader = new MockHttpServletRequest("GET", "/api/v1/books");
+        response = new DispatchBenchmark.BufferedResponse();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (asyncAppender != null) {
+            filterLogger.detachAppender(asyncAppender);
+            asyncAppender.stop();
+        }
+        filterLogger.setLevel(null);
+        filterLogger.setAdditive(true);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse withCorrelationId() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse missingCorrelationId() throws Exception {
+        response.reset();
+        filter.doFilter(requestWithoutHeader, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    private void configureLogging() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        filterLogger = loggerContext.getLogger(RequestFilter.class);
+        switch (logging) {
+            case "off" -> filterLogger.setLevel(Level.WARN);
+            case "sync" -> { }
+            case "async", "async-sampled" -> {
+                Appender<ILoggingEvent> file = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("FILE");
+                asyncAppender = new AsyncAppender();
+                asyncAppender.setContext(loggerContext);
+                asyncAppender.setName("ASYNC_FILE");
+                asyncAppender.setQueueSize(8192);
+                asyncAppender.addAppender(file);
+                asyncAppender.start();
+                filterLogger.addAppender(asyncAppender);
+                filterLogger.setAdditive(false);
+            }
+            default -> throw new IllegalArgumentException("Unknown logging mode: " + logging);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.library.dto.response;
+
+public enum BatchItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
@@ -0,0 +1,23 @@
+package com.library.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One batch of a change feed. Unlike {@link PageResponse#getNext()}, {@code next} is present
+ * whenever a position is known and is meant to be stored and sent back as {@code since} on the
+ * next poll; {@code hasMore} tells whether to fetch again right away.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangesResponse<T> {
+    private List<T> items;
+    private String next;
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package com.library.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanResponse {
+    private UUID id;
+    private UUID bookId;
+    private UUID borrowerId;
+    private Long borrowedAt;
+    private Long returnedAt;
+}
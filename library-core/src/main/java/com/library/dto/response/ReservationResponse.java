@@ -0,0 +1,22 @@
+package com.library.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationResponse {
+    private UUID bookId;
+    private UUID borrowerId;
+    /** {@code BORROWED} when the book was available and went straight to the borrower. */
+    private ReservationStatus status;
+    /** Place in the queue, starting at 1; 0 when the book was borrowed right away. */
+    private Integer position;
+    private Long reservedAt;
+}
@@ -0,0 +1,6 @@
+package com.library.dto.response;
+
+public enum ReservationStatus {
+    QUEUED,
+    BORROWED
+}
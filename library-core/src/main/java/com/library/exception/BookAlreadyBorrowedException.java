@@ -0,0 +1,7 @@
+package com.library.exception;
+
+public class BookAlreadyBorrowedException extends LibraryException {
+    public BookAlreadyBorrowedException(String message) {
+        super(ErrorCode.BOOK_ALREADY_BORROWED, message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.library.exception;
+
+public class BookAlreadyReservedException extends LibraryException {
+    public BookAlreadyReservedException(String message) {
+        super(ErrorCode.BOOK_ALREADY_RESERVED, message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.library.exception;
+
+public class BookNotFoundException extends LibraryException {
+    public BookNotFoundException(String message) {
+        super(ErrorCode.BOOK_NOT_FOUND, message);
+    }
+}
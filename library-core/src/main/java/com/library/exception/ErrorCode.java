@@ -12,12 +12,19 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR("LIB_001", "Internal server error", HttpStatus.INTERNAL_SERVER_ERROR),
     INVALID_REQUEST("LIB_002", "Invalid request parameters", HttpStatus.BAD_REQUEST),
     CORRELATION_ID_NOT_FOUND("LIB_003", "X-Correlation-Id header is missing", HttpStatus.BAD_REQUEST),
+    DATA_CONFLICT("LIB_004", "The request conflicts with existing data", HttpStatus.CONFLICT),
+    SERVICE_OVERLOADED("LIB_005", "Too many concurrent requests. Please retry later.", HttpStatus.SERVICE_UNAVAILABLE),
+    RESOURCE_NOT_FOUND("LIB_006", "The requested resource does not exist", HttpStatus.NOT_FOUND),
+    METHOD_NOT_ALLOWED("LIB_007", "HTTP method not supported for this resource", HttpStatus.METHOD_NOT_ALLOWED),
+    UNSUPPORTED_MEDIA_TYPE("LIB_008", "Content type not supported", HttpStatus.UNSUPPORTED_MEDIA_TYPE),
+    NOT_ACCEPTABLE("LIB_009", "No acceptable representation available", HttpStatus.NOT_ACCEPTABLE),
     
     // Book Errors
     BOOK_NOT_FOUND("LIB_101", "Book not found", HttpStatus.NOT_FOUND),
     BOOK_ALREADY_BORROWED("LIB_102", "Book is already borrowed", HttpStatus.CONFLICT),
     INVALID_BOOK_DATA("LIB_103", "Invalid book data provided", HttpStatus.BAD_REQUEST),
     BOOK_CONCURRENCY_ERROR("LIB_104", "The book was updated by another transaction. Please try again.", HttpStatus.CONFLICT),
+    BOOK_ALREADY_RESERVED("LIB_105", "Book is already reserved or borrowed by this borrower", HttpStatus.CONFLICT),
 
     // Borrower Errors
     BORROWER_NOT_FOUND("LIB_201", "Borrower not found", HttpStatus.NOT_FOUND);
@@ -0,0 +1,7 @@
+package com.library.exception;
+
+public class InvalidBookDataException extends LibraryException {
+    public InvalidBookDataException(String message) {
+        super(ErrorCode.INVALID_BOOK_DATA, message);
+    }
+}
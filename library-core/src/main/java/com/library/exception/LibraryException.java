@@ -0,0 +1,21 @@
+package com.library.exception;
+
+import lombok.Getter;
+
+/**
+ * Base class of the expected business errors (not found, already borrowed, invalid data).
+ * <p>
+ * These are part of normal traffic, e.g. a 409 for every lost borrow race, and are fully
+ * described by their {@link ErrorCode} and message, so they are created without a stack trace
+ * or suppression list. Unexpected failures use ordinary exceptions and keep their traces.
+ */
+@Getter
+public abstract class LibraryException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    protected LibraryException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
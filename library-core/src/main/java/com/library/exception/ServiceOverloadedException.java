@@ -0,0 +1,7 @@
+package com.library.exception;
+
+public class ServiceOverloadedException extends LibraryException {
+    public ServiceOverloadedException(String message) {
+        super(ErrorCode.SERVICE_OVERLOADED, message);
+    }
+}
@@ -4,8 +4,10 @@ import com.library.dto.request.BookRequest;
 import com.library.dto.request.BorrowerRequest;
 import com.library.dto.response.BookResponse;
 import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.LoanResponse;
 import com.library.model.Book;
 import com.library.model.Borrower;
+import com.library.model.Loan;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -56,5 +58,17 @@ public class LibraryMapper {
                 .email(borrower.getEmail())
                 .build();
     }
-}
 
+    public LoanResponse toLoanResponse(Loan loan) {
+        if (loan == null) {
+            return null;
+        }
+        return LoanResponse.builder()
+                .id(loan.getId())
+                .bookId(loan.getBookId())
+                .borrowerId(loan.getBorrowerId())
+                .borrowedAt(loan.getBorrowedAt())
+                .returnedAt(loan.getReturnedAt())
+                .build();
+    }
+}
@@ -37,5 +37,10 @@ public class Book extends BaseEntity {
 
     @Version
     private Long version;
+
+    /** Length of the hold queue; only changed by the reserve and return statements. */
+    @Builder.Default
+    @Column(name = "reservation_count", nullable = false, updatable = false)
+    private Integer reservationCount = 0;
 }
 
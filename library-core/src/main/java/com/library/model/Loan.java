@@ -0,0 +1,33 @@
+package com.library.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+@Entity
+@Table(name = "loans")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Loan {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "book_id", nullable = false)
+    private UUID bookId;
+
+    @Column(name = "borrower_id", nullable = false)
+    private UUID borrowerId;
+
+    @Column(name = "borrowed_at", nullable = false)
+    private Long borrowedAt;
+
+    @Column(name = "returned_at")
+    private Long returnedAt;
+}
@@ -0,0 +1,9 @@
+package com.library.model;
+
+public enum OutboxEventType {
+    BOOK_REGISTERED,
+    BOOK_BORROWED,
+    BOOK_RETURNED,
+    BOOK_RESERVED,
+    BORROWER_REGISTERED
+}
@@ -0,0 +1,33 @@
+package com.library.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+/**
+ * A place in a book's hold queue. The row is deleted when the book is handed to its borrower.
+ */
+@Entity
+@Table(name = "reservations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Reservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private UUID bookId;
+
+    @Column(name = "borrower_id", nullable = false)
+    private UUID borrowerId;
+
+    @Column(name = "reserved_at", nullable = false)
+    private Long reservedAt;
+}
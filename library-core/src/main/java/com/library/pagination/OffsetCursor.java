@@ -0,0 +1,38 @@
+package com.library.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque token for result sets without a stable seek key, such as relevance-ranked search.
+ * Offsets are capped so a client cannot force the database to rank and skip arbitrarily
+ * many rows.
+ */
+public final class OffsetCursor {
+
+    public static final int MAX_OFFSET = 1000;
+
+    private OffsetCursor() {
+    }
+
+    public static String encode(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static int decode(String token) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        int offset;
+        try {
+            offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token);
+        }
+        return offset;
+    }
+}
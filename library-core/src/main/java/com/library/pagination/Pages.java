@@ -0,0 +1,44 @@
+package com.library.pagination;
+
+import com.library.dto.response.ChangesResponse;
+import com.library.dto.response.PageResponse;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class Pages {
+
+    private Pages() {
+    }
+
+    /**
+     * Builds a page from a seek query that was asked for {@code pageSize + 1} rows; the extra
+     * row only signals that another page exists and is never returned.
+     */
+    public static <E, R> PageResponse<R> slice(List<E> rows, int pageSize,
+                                               Function<E, R> mapper, Function<E, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        List<E> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String next = hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return PageResponse.<R>builder()
+                .items(page.stream().map(mapper).toList())
+                .next(next)
+                .build();
+    }
+
+    /**
+     * Builds a change-feed batch from a seek query that was asked for {@code pageSize + 1} rows.
+     * An empty batch hands {@code since} back, so a client always has a position to resume from.
+     */
+    public static <E, R> ChangesResponse<R> changes(List<E> rows, int pageSize, Function<E, R> mapper,
+                                                    Function<E, KeysetCursor> cursorOf, String since) {
+        boolean hasMore = rows.size() > pageSize;
+        List<E> batch = hasMore ? rows.subList(0, pageSize) : rows;
+        String next = batch.isEmpty() ? since : cursorOf.apply(batch.get(batch.size() - 1)).encode();
+        return ChangesResponse.<R>builder()
+                .items(batch.stream().map(mapper).toList())
+                .next(next)
+                .hasMore(hasMore)
+                .build();
+    }
+}
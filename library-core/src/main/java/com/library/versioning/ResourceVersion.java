@@ -0,0 +1,87 @@
+package com.library.versioning;
+
+import com.library.model.Book;
+import com.library.model.Borrower;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Validator of a resource for conditional requests. {@code tag} changes on every modification
+ * and is sent as a strong ETag; {@code lastModified} is the epoch millis of the last change,
+ * or {@link #UNKNOWN} when there is no meaningful one (pages).
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public final class ResourceVersion {
+
+    public static final long UNKNOWN = -1;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long tag;
+    private final long lastModified;
+
+    public static ResourceVersion of(Book book) {
+        return new ResourceVersion(orDefault(book.getVersion(), 0), orDefault(book.getUpdatedAt(), UNKNOWN));
+    }
+
+    /**
+     * Borrowers have no {@code @Version} column and are never modified after registration, so
+     * their update timestamp doubles as the tag.
+     */
+    public static ResourceVersion of(Borrower borrower) {
+        long updatedAt = orDefault(borrower.getUpdatedAt(), UNKNOWN);
+        return new ResourceVersion(updatedAt, updatedAt);
+    }
+
+    /**
+     * Collection-level validator over the rows a page was built from, in order. It changes when
+     * any row changes version or when a row enters or leaves the page.
+     */
+    public static <E> ResourceVersion ofRows(List<E> rows, Function<E, UUID> idOf,
+                                             Function<E, ResourceVersion> versionOf) {
+        long hash = FNV_OFFSET_BASIS;
+        for (E row : rows) {
+            UUID id = idOf.apply(row);
+            hash = (hash ^ id.getMostSignificantBits()) * FNV_PRIME;
+            hash = (hash ^ id.getLeastSignificantBits()) * FNV_PRIME;
+            hash = (hash ^ versionOf.apply(row).getTag()) * FNV_PRIME;
+        }
+        return new ResourceVersion(hash, UNKNOWN);
+    }
+
+    public String eTag() {
+        return "\"" + Long.toHexString(tag) + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header value matches this version, using the weak
+     * comparison RFC 9110 prescribes for that header.
+     */
+    public boolean matches(String ifNoneMatch) {
+        String current = eTag();
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long orDefault(Long value, long fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,7 @@
+package com.library.versioning;
+
+/**
+ * A value together with the {@link ResourceVersion} of the data it was built from.
+ */
+public record Versioned<T>(T value, ResourceVersion version) {
+}
@@ -0,0 +1,176 @@
+package com.library.admission;
+
+import com.library.exception.BookAlreadyBorrowedException;
+import com.library.exception.ServiceOverloadedException;
+import com.library.model.BookStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lets at most one borrow, return or reservation per book run against the database at a time
+ * in this process, so a crowd on a hot title queues here instead of in PostgreSQL row locks.
+ * <p>
+ * Each book with an operation running or waiting has its own fair lock, so books never wait for
+ * each other. The entry is removed when its last operation leaves, which keeps the map at the
+ * number of books in flight; {@code library.admission.max-books} caps it. An entry remembers
+ * the outcome of its last operation. A borrow that was already waiting when an operation on the
+ * same book started, and that operation left the book {@code BORROWED}, fails with
+ * {@link BookAlreadyBorrowedException} without a database round trip: the book was borrowed at
+ * some moment while the waiting request was in flight, so this is an answer the database could
+ * have given. Under a burst, the winner and the first borrow queued behind it reach the database
+ * and the rest of the queue is answered here. A borrow that arrives later goes to the database
+ * as usual, so returns made through other instances are never missed.
+ */
+@Component
+public class BookAdmission {
+
+    private final boolean enabled;
+    private final int maxBooks;
+    private final long maxWaitNanos;
+    private final ConcurrentHashMap<UUID, Slot> slots = new ConcurrentHashMap<>();
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter coalesced;
+    private final Counter timeouts;
+    private final Counter rejected;
+
+    public BookAdmission(MeterRegistry registry,
+                         @Value("${library.admission.enabled:true}") boolean enabled,
+                         @Value("${library.admission.max-books:10000}") int maxBooks,
+                         @Value("${library.admission.max-wait:PT2S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.maxBooks = maxBooks;
+        this.maxWaitNanos = maxWait.toNanos();
+        Gauge.builder("library.admission.books", slots, ConcurrentHashMap::size)
+                .description("Books with an admitted or waiting operation")
+                .register(registry);
+        Gauge.builder("library.admission.waiting", waiting, AtomicInteger::get)
+                .description("Book operations waiting for another operation on the same book")
+                .register(registry);
+        this.coalesced = Counter.builder("library.admission.coalesced")
+                .description("Borrows answered from the outcome of the operation they waited for, without a database call")
+                .register(registry);
+        this.timeouts = Counter.builder("library.admission.timeouts")
+                .description("Book operations rejected after waiting longer than library.admission.max-wait")
+                .register(registry);
+        this.rejected = Counter.builder("library.admission.rejected")
+                .description("Book operations rejected because library.admission.max-books books were already in flight")
+                .register(registry);
+    }
+
+    /**
+     * Runs {@code action} as the only admitted operation on {@code bookId}.
+     *
+     * @param failIfBorrowed whether the action is a borrow that can be answered from the last outcome
+     * @param outcome        status of the book after the action succeeded
+     */
+    public <T> T execute(UUID bookId, boolean failIfBorrowed, Supplier<T> action,
+                         Function<? super T, BookStatus> outcome) {
+        if (!enabled) {
+            return action.get();
+        }
+        long arrival = System.nanoTime();
+        Slot slot = enter(bookId);
+        try {
+            acquire(slot, bookId);
+            try {
+                long decidedAt = System.nanoTime();
+                if (failIfBorrowed && slot.borrowedSince(arrival)) {
+                    coalesced.increment();
+                    throw new BookAlreadyBorrowedException("Book with ID " + bookId + " is already borrowed.");
+                }
+                T result;
+                try {
+                    result = action.get();
+                } catch (BookAlreadyBorrowedException ex) {
+                    slot.record(BookStatus.BORROWED, decidedAt);
+                    throw ex;
+                } catch (RuntimeException | Error ex) {
+                    slot.record(null, decidedAt);
+                    throw ex;
+                }
+                slot.record(outcome.apply(result), decidedAt);
+                return result;
+            } finally {
+                slot.lock.unlock();
+            }
+        } finally {
+            leave(bookId);
+        }
+    }
+
+    /** Registers this operation on the book's entry, creating it unless {@code maxBooks} are in flight. */
+    private Slot enter(UUID bookId) {
+        Slot slot = slots.compute(bookId, (id, current) -> {
+            if (current == null) {
+                if (slots.size() >= maxBooks) {
+                    return null;
+                }
+                current = new Slot();
+            }
+            current.users++;
+            return current;
+        });
+        if (slot == null) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Too many books in flight to admit book " + bookId);
+        }
+        return slot;
+    }
+
+    /** Drops the book's entry once no operation is running or waiting on it. */
+    private void leave(UUID bookId) {
+        slots.computeIfPresent(bookId, (id, slot) -> --slot.users == 0 ? null : slot);
+    }
+
+    private void acquire(Slot slot, UUID bookId) {
+        if (slot.lock.tryLock()) {
+            return;
+        }
+        waiting.incrementAndGet();
+        try {
+            if (!slot.lock.tryLock(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                throw new ServiceOverloadedException("Too many concurrent requests for book " + bookId);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for book " + bookId);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * A book's lock and the last outcome of the operations it admitted. {@code users} is guarded by
+     * the map entry, the outcome fields by the lock.
+     */
+    private static final class Slot {
+
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int users;
+        private BookStatus status;
+        private long decidedAt;
+
+        private boolean borrowedSince(long arrival) {
+            return status == BookStatus.BORROWED && decidedAt - arrival >= 0;
+        }
+
+        private void record(BookStatus outcome, long at) {
+            this.status = outcome;
+            this.decidedAt = at;
+        }
+    }
+}
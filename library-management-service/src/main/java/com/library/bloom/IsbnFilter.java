@@ -0,0 +1,105 @@
+package com.library.bloom;
+
+import com.library.event.BooksRegisteredEvent;
+import com.library.model.Book;
+import com.library.repository.BookRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every ISBN known to this instance, consulted before the duplicate lookup of
+ * batch registration. A negative answer means the ISBN was neither present at startup, nor
+ * committed through this instance, nor seen by a later lookup, so it is not queried. ISBNs
+ * registered on another replica can still slip through; the unique constraint catches them and
+ * the batch is run again without the filter (see {@code BookService#registerBooks}).
+ * Until the filter is loaded every ISBN is reported as possibly present.
+ */
+@Component
+@Slf4j
+public class IsbnFilter implements MeterBinder {
+
+    private final BookRepository bookRepository;
+    private final BloomFilter isbns;
+    private final AtomicLong skippedLookups = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean ready;
+
+    public IsbnFilter(BookRepository bookRepository,
+                      @Value("${library.bloom.expected-insertions:1000000}") long expectedInsertions,
+                      @Value("${library.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.bookRepository = bookRepository;
+        this.isbns = BloomFilter.create(expectedInsertions, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long started = System.nanoTime();
+        try (Stream<String> keys = bookRepository.streamIsbns()) {
+            keys.forEach(isbns::put);
+        }
+        ready = true;
+        log.info("ISBN filter loaded: {} ISBNs, {} KiB in {} ms",
+                isbns.insertions(), isbns.sizeInBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Returns whether the ISBN has to be looked up, counting the lookups the filter saved.
+     */
+    public boolean mightContain(String isbn) {
+        if (!ready || isbns.mightContain(isbn)) {
+            return true;
+        }
+        skippedLookups.incrementAndGet();
+        return false;
+    }
+
+    public void addAll(Collection<String> keys) {
+        keys.forEach(isbns::put);
+    }
+
+    /** A batch hit the unique constraint on an ISBN the filter had reported as absent. */
+    public void missed() {
+        misses.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onBooksRegistered(BooksRegisteredEvent event) {
+        for (Book book : event.getBooks()) {
+            isbns.put(book.getIsbn());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("library.isbn.filter.keys", isbns, BloomFilter::insertions)
+                .description("ISBNs added to the filter")
+                .register(registry);
+        Gauge.builder("library.isbn.filter.size", isbns, BloomFilter::sizeInBytes)
+                .description("Memory used by the filter's bit array")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("library.isbn.filter.false.positive.rate", isbns, BloomFilter::estimatedFalsePositiveRate)
+                .description("False-positive probability implied by the bits currently set")
+                .register(registry);
+        FunctionCounter.builder("library.isbn.filter.skipped", skippedLookups, AtomicLong::get)
+                .description("ISBN lookups skipped because the filter reported them absent")
+                .register(registry);
+        FunctionCounter.builder("library.isbn.filter.misses", misses, AtomicLong::get)
+                .description("Batches re-run without the filter after an ISBN registered elsewhere slipped through")
+                .register(registry);
+    }
+}
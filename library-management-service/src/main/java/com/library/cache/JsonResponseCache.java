@@ -0,0 +1,138 @@
+package com.library.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.library.datasource.PrimaryReads;
+import com.library.dto.response.CacheStatsResponse;
+import com.library.event.BookStatusChangedEvent;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Bounded caches of already-serialized single-resource responses, keyed by id, together with
+ * the {@link ResourceVersion} they were built from so conditional GETs can be answered without
+ * touching the database.
+ * <p>
+ * Values are loaded inside Caffeine's per-key computation, so an invalidation that races a
+ * load waits for it and then discards its result; a reader can therefore never re-insert a
+ * value that was read before the invalidating commit.
+ * <p>
+ * Entries of books changed through other instances are evicted by {@code AvailabilityListener}.
+ * <p>
+ * Loads always read from the primary, even when read replicas are configured: an entry filled
+ * from a lagging replica right after an invalidation would otherwise serve the pre-write value
+ * to every client until it expires.
+ */
+@Component
+public class JsonResponseCache implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Versioned<byte[]>> books;
+    private final Cache<UUID, Versioned<byte[]>> borrowers;
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             @Value("${library.cache.responses.max-size:10000}") long maxSize,
+                             @Value("${library.cache.responses.ttl:PT5M}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.books = newCache(maxSize, ttl);
+        this.borrowers = newCache(maxSize, ttl);
+    }
+
+    public Versioned<byte[]> getBook(UUID id, Supplier<? extends Versioned<?>> loader) {
+        return books.get(id, key -> loadFromPrimary(loader));
+    }
+
+    public Versioned<byte[]> getBookIfPresent(UUID id) {
+        return books.getIfPresent(id);
+    }
+
+    public Versioned<byte[]> getBorrower(UUID id, Supplier<? extends Versioned<?>> loader) {
+        return borrowers.get(id, key -> loadFromPrimary(loader));
+    }
+
+    public Versioned<byte[]> getBorrowerIfPresent(UUID id) {
+        return borrowers.getIfPresent(id);
+    }
+
+    @TransactionalEventListener
+    public void onBookStatusChanged(BookStatusChangedEvent event) {
+        books.invalidate(event.getBookId());
+    }
+
+    /**
+     * Evicts a book changed through any instance, as reported by the {@code book_availability}
+     * notification.
+     */
+    public void invalidateBook(UUID id) {
+        books.invalidate(id);
+    }
+
+    /** Drops every cached book, for when change notifications may have been missed. */
+    public void invalidateAllBooks() {
+        books.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, books, "books");
+        CaffeineCacheMetrics.monitor(registry, borrowers, "borrowers");
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return List.of(toStats("books", books), toStats("borrowers", borrowers));
+    }
+
+    private Versioned<byte[]> loadFromPrimary(Supplier<? extends Versioned<?>> loader) {
+        boolean alreadyPinned = PrimaryReads.isPinned();
+        PrimaryReads.pin();
+        try {
+            return serialize(loader.get());
+        } finally {
+            if (!alreadyPinned) {
+                PrimaryReads.clear();
+            }
+        }
+    }
+
+    private Versioned<byte[]> serialize(Versioned<?> response) {
+        try {
+            return new Versioned<>(objectMapper.writeValueAsBytes(response.value()), response.version());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize cached response", ex);
+        }
+    }
+
+    private static Cache<UUID, Versioned<byte[]>> newCache(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static CacheStatsResponse toStats(String name, Cache<UUID, Versioned<byte[]>> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .evictions(stats.evictionCount())
+                .hitRate(stats.hitRate())
+                .build();
+    }
+}
@@ -0,0 +1,243 @@
+package com.library.controller;
+
+import com.library.cache.JsonResponseCache;
+import com.library.dto.request.BookRequest;
+import com.library.dto.request.BorrowerRequest;
+import com.library.dto.response.BookBatchResponse;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BookSuggestion;
+import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.CacheStatsResponse;
+import com.library.dto.response.ChangesResponse;
+import com.library.dto.response.LoanResponse;
+import com.library.dto.response.PageResponse;
+import com.library.dto.response.ReservationResponse;
+import com.library.service.BookService;
+import com.library.service.BorrowerService;
+import com.library.service.BorrowingService;
+import com.library.service.ChangeFeedService;
+import com.library.service.ExportService;
+import com.library.service.LoanService;
+import com.library.service.SuggestionService;
+import com.library.stream.AvailabilityBroadcaster;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class LibraryController {
+
+    private final BookService bookService;
+    private final BorrowerService borrowerService;
+    private final BorrowingService borrowingService;
+    private final ExportService exportService;
+    private final LoanService loanService;
+    private final SuggestionService suggestionService;
+    private final ChangeFeedService changeFeedService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+    private final JsonResponseCache responseCache;
+
+    // --- Book Endpoints ---
+
+    @PostMapping("/books")
+    public ResponseEntity<BookResponse> registerBook(@Valid @RequestBody BookRequest request) {
+        BookResponse response = bookService.registerBook(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    @PostMapping("/books/batch")
+    public ResponseEntity<BookBatchResponse> registerBooks(@RequestBody List<BookRequest> requests) {
+        BookBatchResponse response = bookService.registerBooks(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/books")
+    public ResponseEntity<PageResponse<BookResponse>> getAllBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        Versioned<PageResponse<BookResponse>> response = bookService.getAllBooks(cursor, limit);
+        return withValidators(ResponseEntity.ok(), response.version()).body(response.value());
+    }
+
+    @GetMapping("/books/search")
+    public ResponseEntity<PageResponse<BookResponse>> searchBooks(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageResponse<BookResponse> response = bookService.searchBooks(q, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/books/suggest")
+    public ResponseEntity<List<BookSuggestion>> suggestBooks(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        List<BookSuggestion> response = suggestionService.suggest(prefix, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/books/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        StreamingResponseBody body = exportService::exportBooks;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/books/changes")
+    public ResponseEntity<ChangesResponse<BookResponse>> getBookChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        ChangesResponse<BookResponse> response = changeFeedService.getBookChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/books/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability() {
+        return availabilityBroadcaster.subscribe();
+    }
+
+    @GetMapping("/books/{id}")
+    public ResponseEntity<byte[]> getBookById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null && responseCache.getBookIfPresent(id) == null) {
+            ResourceVersion current = bookService.getBookVersion(id);
+            if (current.matches(ifNoneMatch)) {
+                // Answered from the version lookup alone, without loading or serializing the entity
+                return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current).build();
+            }
+        }
+        Versioned<byte[]> response = responseCache.getBook(id, () -> bookService.getBookById(id));
+        return withValidators(ResponseEntity.ok(), response.version())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.value());
+    }
+
+    @GetMapping("/books/{id}/loans")
+    public ResponseEntity<PageResponse<LoanResponse>> getBookLoans(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageResponse<LoanResponse> response = loanService.getBookLoans(id, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    // --- Borrower Endpoints ---
+
+    @PostMapping("/borrowers")
+    public ResponseEntity<BorrowerResponse> registerBorrower(@Valid @RequestBody BorrowerRequest request) {
+        BorrowerResponse response = borrowerService.registerBorrower(request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+    
+    @GetMapping("/borrowers")
+    public ResponseEntity<PageResponse<BorrowerResponse>> getAllBorrowers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        Versioned<PageResponse<BorrowerResponse>> response = borrowerService.getAllBorrowers(cursor, limit);
+        return withValidators(ResponseEntity.ok(), response.version()).body(response.value());
+    }
+
+    @GetMapping(value = "/borrowers/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportBorrowers() {
+        StreamingResponseBody body = exportService::exportBorrowers;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/borrowers/changes")
+    public ResponseEntity<ChangesResponse<BorrowerResponse>> getBorrowerChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        ChangesResponse<BorrowerResponse> response = changeFeedService.getBorrowerChanges(since, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/borrowers/{id}")
+    public ResponseEntity<byte[]> getBorrowerById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null && responseCache.getBorrowerIfPresent(id) == null) {
+            ResourceVersion current = borrowerService.getBorrowerVersion(id);
+            if (current.matches(ifNoneMatch)) {
+                // Answered from the version lookup alone, without loading or serializing the entity
+                return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current).build();
+            }
+        }
+        Versioned<byte[]> response = responseCache.getBorrower(id, () -> borrowerService.getBorrowerById(id));
+        return withValidators(ResponseEntity.ok(), response.version())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.value());
+    }
+
+    @GetMapping("/borrowers/{id}/loans")
+    public ResponseEntity<PageResponse<LoanResponse>> getBorrowerLoans(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean open,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageResponse<LoanResponse> response = loanService.getBorrowerLoans(id, open, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    // --- Borrowing Endpoints ---
+
+    @PostMapping("/books/{bookId}/borrow")
+    public ResponseEntity<BookResponse> borrowBook(
+            @PathVariable UUID bookId,
+            @RequestParam UUID borrowerId) {
+        BookResponse response = borrowingService.borrowBook(bookId, borrowerId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/books/{bookId}/reserve")
+    public ResponseEntity<ReservationResponse> reserveBook(
+            @PathVariable UUID bookId,
+            @RequestParam UUID borrowerId) {
+        ReservationResponse response = borrowingService.reserveBook(bookId, borrowerId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/books/{bookId}/return")
+    public ResponseEntity<BookResponse> returnBook(@PathVariable UUID bookId) {
+        BookResponse response = borrowingService.returnBook(bookId);
+        return ResponseEntity.ok(response);
+    }
+
+    // --- Cache Endpoints ---
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(responseCache.stats());
+    }
+
+    /**
+     * Adds the ETag, and Last-Modified when known. For a 200, Spring MVC answers a matching
+     * If-None-Match or If-Modified-Since with 304 before the body is written.
+     */
+    private static <B extends ResponseEntity.HeadersBuilder<B>> B withValidators(B builder, ResourceVersion version) {
+        builder.eTag(version.eTag());
+        if (version.getLastModified() != ResourceVersion.UNKNOWN) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder;
+    }
+}
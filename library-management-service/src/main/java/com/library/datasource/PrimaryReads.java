@@ -0,0 +1,25 @@
+package com.library.datasource;
+
+/**
+ * Per-thread switch that sends read-only transactions to the primary instead of a replica,
+ * for requests that must see a write the replicas may not have replayed yet.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.library.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to read replicas when
+ * {@code library.datasource.replicas.urls} is set; without it the application keeps Spring
+ * Boot's single primary pool.
+ * <p>
+ * The application's {@link DataSource} is a {@link LazyConnectionDataSourceProxy} over the
+ * primary pool. It only fetches a physical connection at the first statement, by which time the
+ * transaction manager has marked the connection read-only, so read-only transactions are served
+ * by the {@link ReplicaRoutingDataSource} and everything else, including Flyway, by the primary.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnExpression("!'${library.datasource.replicas.urls:}'.isBlank()")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${library.datasource.replicas.urls}") List<String> urls,
+            @Value("${library.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${library.datasource.replicas.connection-timeout:PT1S}") Duration connectionTimeout,
+            @Value("${library.datasource.replicas.down-time:PT10S}") Duration downTime) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setReadOnly(true);
+            // Start even if a replica is down; its reads go elsewhere until it comes back
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, downTime);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
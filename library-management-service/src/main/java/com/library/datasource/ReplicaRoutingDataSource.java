@@ -0,0 +1,117 @@
+package com.library.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connections for read-only transactions: taken round-robin from the replica pools, skipping
+ * replicas that recently failed to hand out a connection, and from the primary when no replica
+ * is available or the current thread is pinned with {@link PrimaryReads}.
+ * <p>
+ * A replica that fails is left out for {@code downTime}; the first request after that probes
+ * it again, so a recovered replica rejoins without a separate health checker.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long downTimeNanos;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong pinnedReads = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration downTime) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.downTimeNanos = downTime.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PrimaryReads.isPinned()) {
+            pinnedReads.incrementAndGet();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        long now = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isUp(now)) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException ex) {
+                    replica.downUntil = System.nanoTime() + downTimeNanos;
+                    log.warn("Replica {} is unavailable ({}), routing its reads elsewhere for {} ms",
+                            (start + i) % size, ex.getMessage(), downTimeNanos / 1_000_000);
+                }
+            }
+        }
+        fallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("library.datasource.replicas.available", this, ReplicaRoutingDataSource::availableReplicas)
+                .description("Replicas currently receiving read-only transactions")
+                .register(registry);
+        FunctionCounter.builder("library.datasource.reads.primary", pinnedReads, AtomicLong::get)
+                .description("Read-only transactions sent to the primary")
+                .tag("reason", "read_your_writes")
+                .register(registry);
+        FunctionCounter.builder("library.datasource.reads.primary", fallbacks, AtomicLong::get)
+                .description("Read-only transactions sent to the primary")
+                .tag("reason", "no_replica")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    int availableReplicas() {
+        long now = System.nanoTime();
+        return (int) replicas.stream().filter(replica -> replica.isUp(now)).count();
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile long downUntil;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+            this.downUntil = System.nanoTime();
+        }
+
+        private boolean isUp(long now) {
+            return now - downUntil >= 0;
+        }
+    }
+}
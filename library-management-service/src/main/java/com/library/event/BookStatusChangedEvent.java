@@ -0,0 +1,17 @@
+package com.library.event;
+
+import com.library.model.BookStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Published inside the borrow/return transaction whenever a book's status actually changes.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookStatusChangedEvent {
+    private final UUID bookId;
+    private final BookStatus status;
+}
@@ -0,0 +1,17 @@
+package com.library.event;
+
+import com.library.model.Book;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Published inside the registering transaction; in-memory views should listen with
+ * {@code @TransactionalEventListener} so they only see books that were committed.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BooksRegisteredEvent {
+    private final List<Book> books;
+}
@@ -0,0 +1,14 @@
+package com.library.event;
+
+import com.library.model.Borrower;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Published inside the registering transaction, like {@link BooksRegisteredEvent}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BorrowerRegisteredEvent {
+    private final Borrower borrower;
+}
@@ -0,0 +1,136 @@
+package com.library.exception;
+
+import com.library.metrics.LibraryMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps exceptions to {@link ErrorResponse} bodies. The body is written directly by
+ * {@link ErrorResponseWriter}, so the expected errors (404, 409, 400) cost little more than
+ * encoding the message and path.
+ * <p>
+ * Spring MVC's own client errors (unknown path, wrong method, unparseable path variable or body,
+ * missing parameter) keep their 4xx status. Only real 5xx errors are logged at ERROR with a stack
+ * trace, so junk traffic cannot flood the async appenders, which never discard ERROR events.
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class GlobalExceptionHandler {
+
+    private final LibraryMetrics metrics;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @ExceptionHandler(LibraryException.class)
+    public void handleLibraryException(LibraryException ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        writeErrorResponse(ex.getErrorCode(), ex.getMessage(), request, response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public void handleIllegalArgumentException(IllegalArgumentException ex, HttpServletRequest request,
+                                               HttpServletResponse response) throws IOException {
+        // Mapping generic IllegalArgumentException to INVALID_REQUEST
+        writeErrorResponse(ErrorCode.INVALID_REQUEST, ex.getMessage(), request, response);
+    }
+
+    /**
+     * Version conflicts, deadlocks and lock failures that were still there after the
+     * {@code ConflictRetryTemplate} ran out of attempts.
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public void handleConcurrencyFailureException(ConcurrencyFailureException ex, HttpServletRequest request,
+                                                  HttpServletResponse response) throws IOException {
+        if (ex instanceof OptimisticLockingFailureException) {
+            metrics.optimisticLockConflict();
+        } else {
+            metrics.lockConflict();
+        }
+        writeErrorResponse(ErrorCode.BOOK_CONCURRENCY_ERROR, null, request, response);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public void handleDataIntegrityViolationException(DataIntegrityViolationException ex, HttpServletRequest request,
+                                                      HttpServletResponse response) throws IOException {
+        // The driver message can leak schema details, so only the generic message is returned
+        writeErrorResponse(ErrorCode.DATA_CONFLICT, null, request, response);
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public void handleValidationExceptions(MethodArgumentNotValidException ex, HttpServletRequest request,
+                                           HttpServletResponse response) throws IOException {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+
+        // Simplifying map to string for response consistency
+        writeErrorResponse(ErrorCode.INVALID_REQUEST, errors.toString(), request, response);
+    }
+
+    @ExceptionHandler(TypeMismatchException.class)
+    public void handleTypeMismatchException(TypeMismatchException ex, HttpServletRequest request,
+                                            HttpServletResponse response) throws IOException {
+        // e.g. a non-UUID {id}; the conversion failure itself is not worth returning
+        String message = "Invalid value '" + ex.getValue() + "' for '" + ex.getPropertyName() + "'";
+        writeErrorResponse(ErrorCode.INVALID_REQUEST, message, request, response);
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public void handleHttpMessageNotReadableException(HttpMessageNotReadableException ex, HttpServletRequest request,
+                                                      HttpServletResponse response) throws IOException {
+        // The parser message echoes the payload, so only the generic message is returned
+        writeErrorResponse(ErrorCode.INVALID_REQUEST, "Malformed request body", request, response);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public void handleGlobalException(Exception ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (ex instanceof org.springframework.web.ErrorResponse errorResponse
+                && errorResponse.getStatusCode().is4xxClientError()) {
+            log.debug("Rejected {} {}: {}", request.getMethod(), request.getRequestURI(), ex.getMessage());
+            writeErrorResponse(clientErrorCode(errorResponse.getStatusCode().value()),
+                    errorResponse.getBody().getDetail(), request, response);
+            return;
+        }
+        log.error("Unexpected error on {} {}", request.getMethod(), request.getRequestURI(), ex);
+        writeErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, ex.getMessage(), request, response);
+    }
+
+    /**
+     * Error codes only exist for the client errors Spring MVC raises routinely; anything else
+     * (missing parameter, unsatisfied binding, ...) is reported as a plain invalid request.
+     */
+    private static ErrorCode clientErrorCode(int status) {
+        return switch (status) {
+            case 404 -> ErrorCode.RESOURCE_NOT_FOUND;
+            case 405 -> ErrorCode.METHOD_NOT_ALLOWED;
+            case 406 -> ErrorCode.NOT_ACCEPTABLE;
+            case 415 -> ErrorCode.UNSUPPORTED_MEDIA_TYPE;
+            default -> ErrorCode.INVALID_REQUEST;
+        };
+    }
+
+    private void writeErrorResponse(ErrorCode errorCode, String message, HttpServletRequest request,
+                                    HttpServletResponse response) throws IOException {
+        metrics.errorReturned(errorCode);
+        errorResponseWriter.write(response, errorCode, message, request.getRequestURI());
+    }
+}
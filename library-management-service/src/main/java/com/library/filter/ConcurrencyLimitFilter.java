@@ -0,0 +1,113 @@
+package com.library.filter;
+
+import com.library.exception.ErrorCode;
+import com.library.exception.ErrorResponseWriter;
+import com.library.metrics.LibraryMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps in-flight requests when they run on virtual threads. Tomcat no longer bounds
+ * concurrency through its worker pool, so without this every burst would queue inside
+ * Hikari and fail with connection timeouts. The cap is derived from the connection pool size;
+ * requests that cannot get a permit within the acquire timeout are shed with 503.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final LibraryMetrics metrics;
+
+    public ConcurrencyLimitFilter(DataSource dataSource,
+                                  ErrorResponseWriter errorResponseWriter,
+                                  LibraryMetrics metrics,
+                                  @Value("${library.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+                                  @Value("${library.virtual-threads.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        int poolSize = maximumPoolSize(dataSource);
+        int limit = poolSize * requestsPerConnection;
+        this.permits = new Semaphore(limit, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+        this.errorResponseWriter = errorResponseWriter;
+        this.metrics = metrics;
+        log.info("Virtual thread request limit: {} concurrent requests ({} connections x {})",
+                limit, poolSize, requestsPerConnection);
+    }
+
+    /**
+     * Health probes and metric scrapes must keep answering while the service is saturated,
+     * otherwise a busy instance looks dead and its metrics have gaps exactly during overload.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            handleOverload(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Size of the primary's Hikari pool, also when it is wrapped for read-replica routing.
+     * Without an explicit {@code maximum-pool-size}, Hikari reports -1 until the pool starts and
+     * then falls back to its default of 10.
+     */
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return size > 0 ? size : DEFAULT_POOL_SIZE;
+            }
+        } catch (SQLException ex) {
+            log.warn("Could not determine the connection pool size: {}", ex.getMessage());
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void handleOverload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SERVICE_OVERLOADED;
+        metrics.errorReturned(errorCode);
+        errorResponseWriter.write(response, errorCode, null, request.getRequestURI());
+    }
+}
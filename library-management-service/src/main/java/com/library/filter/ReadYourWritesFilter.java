@@ -0,0 +1,94 @@
+package com.library.filter;
+
+import com.library.datasource.PrimaryReads;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes for clients of a replicated deployment. A request that may write (any method
+ * other than GET, HEAD or OPTIONS) gets a cookie valid for {@code library.datasource.read-your-writes.window};
+ * while a client presents it, its reads are served by the primary instead of a replica that may
+ * not have replayed the write yet.
+ * <p>
+ * The deadline travels in the cookie, so this works across application instances without shared
+ * state. The cookie is set before the request runs, since the response may already be committed
+ * by the time it finishes. A zero window turns the filter off.
+ */
+@Component
+@ConditionalOnExpression("!'${library.datasource.replicas.urls:}'.isBlank()")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "library-primary-until";
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(@Value("${library.datasource.read-your-writes.window:PT2S}") Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return window.isZero();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (isWrite(request)) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(now + window.toMillis()))
+                    .maxAge(window)
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        long primaryUntil = primaryUntil(request);
+        // A deadline further out than one window was not issued here
+        if (primaryUntil <= now || primaryUntil > now + window.toMillis()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        PrimaryReads.pin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryReads.clear();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.library.filter;
+
+import com.library.exception.ErrorCode;
+import com.library.exception.ErrorResponseWriter;
+import com.library.metrics.LibraryMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requires the X-Correlation-Id header, puts it in the MDC and logs each request.
+ * <p>
+ * Successful requests are logged at INFO for a configurable fraction of requests
+ * ({@code library.logging.request-sample-rate}); responses with a 4xx or 5xx status are always
+ * logged, at WARN and ERROR, so the async appenders never discard them under load.
+ */
+@Component
+@Slf4j
+public class RequestFilter extends OncePerRequestFilter {
+
+    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+    private static final String MDC_KEY = "X-Correlation-Id";
+    
+    private final ErrorResponseWriter errorResponseWriter;
+    private final LibraryMetrics metrics;
+    private final double sampleRate;
+
+    public RequestFilter(ErrorResponseWriter errorResponseWriter,
+                         LibraryMetrics metrics,
+                         @Value("${library.logging.request-sample-rate:1.0}") double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("library.logging.request-sample-rate must be between 0 and 1");
+        }
+        this.errorResponseWriter = errorResponseWriter;
+        this.metrics = metrics;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        
+        // Skip validation for Swagger UI, API Docs and Actuator (health checks, metric scrapes)
+        String path = request.getRequestURI();
+        if (path.startsWith("/swagger-ui") || path.startsWith("/v3/api-docs") || path.startsWith("/actuator")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String correlationId = request.getHeader(CORRELATION_ID_HEADER);
+
+        if (correlationId == null || correlationId.trim().isEmpty()) {
+            handleMissingCorrelationId(request, response);
+            return;
+        }
+
+        boolean sampled = isSampled();
+        boolean failed = false;
+        long started = System.nanoTime();
+        try {
+            MDC.put(MDC_KEY, correlationId);
+            if (sampled) {
+                log.info("Incoming Request: [Method: {}, URI: {}]", request.getMethod(), request.getRequestURI());
+            }
+            
+            filterChain.doFilter(request, response);
+        } catch (ServletException | IOException | RuntimeException ex) {
+            failed = true;
+            throw ex;
+        } finally {
+            logOutgoing(request, response, sampled, failed, started);
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private void logOutgoing(HttpServletRequest request, HttpServletResponse response, boolean sampled, boolean failed,
+                             long started) {
+        // An exception escaping the chain becomes a 500 once the container handles it
+        int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        if (status < 400 && !sampled) {
+            return;
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        String format = "Outgoing Response: [Method: {}, URI: {}, Status: {}, Duration: {} ms]";
+        if (status >= 500) {
+            log.error(format, request.getMethod(), request.getRequestURI(), status, durationMs);
+        } else if (status >= 400) {
+            log.warn(format, request.getMethod(), request.getRequestURI(), status, durationMs);
+        } else {
+            log.info(format, request.getMethod(), request.getRequestURI(), status, durationMs);
+        }
+    }
+
+    private void handleMissingCorrelationId(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.CORRELATION_ID_NOT_FOUND;
+        metrics.errorReturned(errorCode);
+        errorResponseWriter.write(response, errorCode, null, request.getRequestURI());
+    }
+}
+
@@ -0,0 +1,82 @@
+package com.library.metrics;
+
+import com.library.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Application-level counters. Every meter is registered up front so recording on the request
+ * path is a single increment, without a registry lookup or tag allocation.
+ */
+@Component
+public class LibraryMetrics {
+
+    private final Map<ErrorCode, Counter> errors = new EnumMap<>(ErrorCode.class);
+    private final Counter borrowConflicts;
+    private final Counter optimisticLockConflicts;
+    private final Counter lockConflicts;
+    private final Counter reservationsQueued;
+    private final Counter reservationsHandedOff;
+
+    public LibraryMetrics(MeterRegistry registry) {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errors.put(errorCode, Counter.builder("library.errors")
+                    .description("Error responses returned, by error code")
+                    .tag("code", errorCode.getCode())
+                    .tag("status", String.valueOf(errorCode.getHttpStatus().value()))
+                    .register(registry));
+        }
+        this.borrowConflicts = conflictCounter(registry, "already_borrowed");
+        this.optimisticLockConflicts = conflictCounter(registry, "optimistic_lock");
+        this.lockConflicts = conflictCounter(registry, "lock_conflict");
+        this.reservationsQueued = reservationCounter(registry, "queued");
+        this.reservationsHandedOff = reservationCounter(registry, "handed_off");
+    }
+
+    public void errorReturned(ErrorCode errorCode) {
+        errors.get(errorCode).increment();
+    }
+
+    /** A borrow lost the race for a book that another borrower holds. */
+    public void borrowConflict() {
+        borrowConflicts.increment();
+    }
+
+    /** An entity update still failed its {@code @Version} check after the transaction retries. */
+    public void optimisticLockConflict() {
+        optimisticLockConflicts.increment();
+    }
+
+    /** A deadlock, lock timeout or serialization failure outlasted the transaction retries. */
+    public void lockConflict() {
+        lockConflicts.increment();
+    }
+
+    /** A borrower joined the hold queue of a borrowed book. */
+    public void reservationQueued() {
+        reservationsQueued.increment();
+    }
+
+    /** A returned book went straight to the head of its hold queue. */
+    public void reservationHandedOff() {
+        reservationsHandedOff.increment();
+    }
+
+    private static Counter conflictCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("library.borrow.conflicts")
+                .description("Borrow and return attempts rejected because of a concurrent update")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static Counter reservationCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("library.reservations")
+                .description("Hold queue entries, by whether they were queued or handed a returned book")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
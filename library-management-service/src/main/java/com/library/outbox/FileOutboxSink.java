@@ -0,0 +1,80 @@
+package com.library.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.model.OutboxEvent;
+import com.library.model.OutboxEventType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends events as newline-delimited JSON to a local file, for development and tests. Each
+ * batch is written with a single append and forced to disk before the relay deletes it.
+ * <p>
+ * Only available in the {@code dev} and {@code test} profiles, and only when selected with
+ * {@code library.outbox.sink=file}.
+ */
+@Component
+@Profile({"dev", "test"})
+@ConditionalOnProperty(name = "library.outbox.sink", havingValue = "file")
+@Slf4j
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+
+    public FileOutboxSink(ObjectMapper objectMapper,
+                          @Value("${library.outbox.file.path:outbox-events.ndjson}") Path path) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        log.info("Outbox events are appended to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+        for (OutboxEvent event : events) {
+            buffer.write(objectMapper.writeValueAsBytes(new Line(event.getId(), event.getEventType(),
+                    event.getAggregateId(), event.getCreatedAt(), event.getPayload())));
+            buffer.write('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private record Line(long id, OutboxEventType type, UUID aggregateId, long createdAt,
+                        @JsonRawValue String payload) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.library.outbox;
+
+import com.library.model.OutboxEvent;
+import com.library.repository.OutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox into the {@link OutboxSink}.
+ * <p>
+ * Each worker repeatedly locks the oldest batch with {@code FOR UPDATE SKIP LOCKED}, publishes
+ * it and deletes it in the same transaction, so any number of workers on any number of
+ * replicas can run without handing out an event twice (barring a failure between publishing
+ * and commit). A worker keeps going while it finds full batches and otherwise waits for the
+ * poll interval.
+ * <p>
+ * The relay is off unless {@code library.outbox.relay.enabled} is set, and then refuses to start
+ * unless {@code library.outbox.sink} names a sink that exists in this deployment. Events simply
+ * wait in the table until then.
+ */
+@Component
+@ConditionalOnProperty(name = "library.outbox.relay.enabled", havingValue = "true")
+@Slf4j
+public class OutboxRelay implements SmartLifecycle, MeterBinder {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int workers;
+    private final int batchSize;
+    private final long pollMillis;
+
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @Autowired
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       ObjectProvider<OutboxSink> sinks,
+                       @Value("${library.outbox.sink:}") String sinkName,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${library.outbox.relay.workers:2}") int workers,
+                       @Value("${library.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${library.outbox.relay.poll-interval:PT1S}") Duration pollInterval) {
+        this(outboxRepository, configuredSink(sinks, sinkName), transactionManager, workers, batchSize, pollInterval);
+    }
+
+    OutboxRelay(OutboxRepository outboxRepository,
+                OutboxSink sink,
+                PlatformTransactionManager transactionManager,
+                int workers,
+                int batchSize,
+                Duration pollInterval) {
+        this.outboxRepository = outboxRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollMillis = pollInterval.toMillis();
+    }
+
+    private static OutboxSink configuredSink(ObjectProvider<OutboxSink> sinks, String sinkName) {
+        if (sinkName.isBlank()) {
+            throw new IllegalStateException("library.outbox.relay.enabled is true but library.outbox.sink is not set. "
+                    + "Set OUTBOX_SINK to the sink of this deployment.");
+        }
+        List<OutboxSink> available = sinks.orderedStream().toList();
+        return available.stream()
+                .filter(sink -> sinkName.equals(sink.name()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("library.outbox.sink '" + sinkName
+                        + "' does not match any OutboxSink; available: "
+                        + available.stream().map(OutboxSink::name).toList()
+                        + ". The 'file' sink exists only in the dev and test profiles."));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            threads.add(Thread.ofPlatform().name("outbox-relay-" + i).daemon().start(this::work));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("library.outbox.relayed", relayed, AtomicLong::get)
+                .description("Outbox events delivered to the sink")
+                .register(registry);
+        FunctionCounter.builder("library.outbox.failures", failedBatches, AtomicLong::get)
+                .description("Outbox batches rolled back because publishing or deleting them failed")
+                .register(registry);
+    }
+
+    /**
+     * Publishes and deletes one batch.
+     *
+     * @return the number of events relayed
+     */
+    int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            try {
+                sink.publish(batch);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+            return batch.size();
+        });
+        relayed.addAndGet(count);
+        return count;
+    }
+
+    private void work() {
+        while (running) {
+            boolean fullBatch;
+            try {
+                fullBatch = relayBatch() == batchSize;
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                failedBatches.incrementAndGet();
+                log.warn("Outbox relay batch failed, retrying in {} ms", pollMillis, ex);
+                fullBatch = false;
+            }
+            if (!fullBatch) {
+                try {
+                    Thread.sleep(pollMillis);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.library.outbox;
+
+import com.library.model.OutboxEvent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events, e.g. a message broker.
+ * <p>
+ * {@link #publish} is called while the batch is still locked; the events are deleted only if
+ * it returns normally. A failed or interrupted batch is delivered again, so delivery is
+ * at-least-once and consumers should de-duplicate on the event id.
+ */
+public interface OutboxSink {
+
+    /** The value of {@code library.outbox.sink} that selects this sink. */
+    String name();
+
+    void publish(List<OutboxEvent> events) throws IOException;
+}
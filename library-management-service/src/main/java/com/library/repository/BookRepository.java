@@ -0,0 +1,206 @@
+package com.library.repository;
+
+import com.library.dto.response.BookSuggestion;
+import com.library.model.Book;
+import com.library.versioning.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface BookRepository extends JpaRepository<Book, UUID> {
+    Optional<Book> findByIsbn(String isbn);
+
+    /**
+     * Inserts the book, and its {@code BOOK_REGISTERED} outbox event, unless its ISBN is taken.
+     * An empty result means a book with this ISBN already exists, including one committed
+     * concurrently.
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO books (id, isbn, title, author, status, version, created_at, updated_at)
+                VALUES (gen_random_uuid(), :isbn, :title, :author, 'AVAILABLE', 0, :now, :now)
+                ON CONFLICT (isbn) DO NOTHING
+                RETURNING *
+            ), recorded AS (
+                INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+                SELECT 'BOOK_REGISTERED', id,
+                       json_build_object('bookId', id, 'isbn', isbn, 'title', title, 'author', author)::text, :now
+                FROM inserted
+            )
+            SELECT * FROM inserted""", nativeQuery = true)
+    Optional<Book> insertIfAbsent(@Param("isbn") String isbn, @Param("title") String title,
+                                  @Param("author") String author, @Param("now") long now);
+
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * Flips an available book to borrowed, opens its loan and records the {@code BOOK_BORROWED}
+     * outbox event in a single statement, provided the borrower exists. An empty result means the
+     * book is missing, already borrowed, or the borrower is unknown.
+     */
+    @Query(value = """
+            WITH borrowed AS (
+                UPDATE books SET status = 'BORROWED', version = version + 1, updated_at = :now
+                WHERE id = :bookId AND status = 'AVAILABLE'
+                  AND EXISTS (SELECT 1 FROM borrowers WHERE id = :borrowerId)
+                RETURNING *
+            ), opened AS (
+                INSERT INTO loans (id, book_id, borrower_id, borrowed_at)
+                SELECT gen_random_uuid(), id, :borrowerId, :now FROM borrowed
+                RETURNING id, book_id, borrower_id
+            ), recorded AS (
+                INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+                SELECT 'BOOK_BORROWED', borrowed.id,
+                       json_build_object('bookId', borrowed.id, 'borrowerId', opened.borrower_id,
+                                         'loanId', opened.id, 'version', borrowed.version)::text, :now
+                FROM borrowed JOIN opened ON opened.book_id = borrowed.id
+            )
+            SELECT * FROM borrowed""", nativeQuery = true)
+    Optional<Book> borrowIfAvailable(@Param("bookId") UUID bookId, @Param("borrowerId") UUID borrowerId,
+                                     @Param("now") long now);
+
+    /**
+     * Closes the open loan of a borrowed book and records the {@code BOOK_RETURNED} outbox event
+     * in a single statement. The book becomes available unless it has reservations; then it
+     * stays borrowed with one reservation fewer, and the caller must hand it to the head of the
+     * queue with {@code ReservationRepository.handOff} in the same transaction.
+     */
+    @Query(value = """
+            WITH returned AS (
+                UPDATE books SET status = CASE WHEN reservation_count > 0 THEN 'BORROWED' ELSE 'AVAILABLE' END,
+                                 reservation_count = GREATEST(reservation_count - 1, 0),
+                                 version = version + 1, updated_at = :now
+                WHERE id = :bookId AND status = 'BORROWED'
+                RETURNING *
+            ), closed AS (
+                UPDATE loans SET returned_at = :now
+                FROM returned
+                WHERE loans.book_id = returned.id AND loans.returned_at IS NULL
+                RETURNING loans.id, loans.borrower_id
+            ), recorded AS (
+                INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+                SELECT 'BOOK_RETURNED', returned.id,
+                       json_build_object('bookId', returned.id, 'borrowerId', closed.borrower_id,
+                                         'loanId', closed.id, 'version', returned.version)::text, :now
+                FROM returned LEFT JOIN closed ON true
+            )
+            SELECT * FROM returned""", nativeQuery = true)
+    Optional<Book> returnIfBorrowed(@Param("bookId") UUID bookId, @Param("now") long now);
+
+    /**
+     * Appends the borrower to the hold queue of a borrowed book and records the
+     * {@code BOOK_RESERVED} outbox event in a single statement. The returned row carries the new
+     * queue length, which is the borrower's position. An empty result means the book is missing
+     * or available, the borrower is unknown, or the borrower already holds or reserved the book.
+     * <p>
+     * Locking the book row serializes reservations with returns, so a reservation is either
+     * seen by a return's hand-off or finds the book available. A concurrent reservation by the
+     * same borrower is dropped by {@code ON CONFLICT} and leaves the queue length untouched.
+     */
+    @Query(value = """
+            WITH book AS (
+                SELECT id FROM books
+                WHERE id = :bookId AND status = 'BORROWED'
+                  AND EXISTS (SELECT 1 FROM borrowers WHERE id = :borrowerId)
+                  AND NOT EXISTS (SELECT 1 FROM loans
+                                  WHERE book_id = :bookId AND borrower_id = :borrowerId AND returned_at IS NULL)
+                FOR UPDATE
+            ), queued AS (
+                INSERT INTO reservations (book_id, borrower_id, reserved_at)
+                SELECT id, :borrowerId, :now FROM book
+                ON CONFLICT (book_id, borrower_id) DO NOTHING
+                RETURNING id, book_id, borrower_id
+            ), held AS (
+                UPDATE books SET reservation_count = reservation_count + 1
+                FROM queued WHERE books.id = queued.book_id
+                RETURNING books.*
+            ), recorded AS (
+                INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+                SELECT 'BOOK_RESERVED', held.id,
+                       json_build_object('bookId', held.id, 'borrowerId', queued.borrower_id,
+                                         'reservationId', queued.id, 'position', held.reservation_count)::text, :now
+                FROM held JOIN queued ON queued.book_id = held.id
+            )
+            SELECT * FROM held""", nativeQuery = true)
+    Optional<Book> reserveIfBorrowed(@Param("bookId") UUID bookId, @Param("borrowerId") UUID borrowerId,
+                                     @Param("now") long now);
+
+    /**
+     * Validator of a book for conditional GETs, read without loading the entity.
+     */
+    @Query("SELECT new com.library.versioning.ResourceVersion(coalesce(b.version, 0L), coalesce(b.updatedAt, -1L)) "
+            + "FROM Book b WHERE b.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Change feed: rows last modified before {@code horizon}, in {@code (updated_at, id)} order,
+     * served by {@code idx_books_updated_at_id}.
+     */
+    @Query(value = "SELECT * FROM books WHERE updated_at < :horizon ORDER BY updated_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Book> findChangesFirstPage(@Param("horizon") long horizon, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM books
+            WHERE (updated_at, id) > (:updatedAt, :id) AND updated_at < :horizon
+            ORDER BY updated_at, id LIMIT :limit""", nativeQuery = true)
+    List<Book> findChangesAfter(@Param("updatedAt") long updatedAt, @Param("id") UUID id,
+                                @Param("horizon") long horizon, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM books ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    List<Book> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM books WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Book> findPageAfter(@Param("createdAt") long createdAt, @Param("id") UUID id, @Param("limit") int limit);
+
+    /**
+     * Relevance-ranked full-text match on title and author, served by the GIN index on
+     * {@code search_vector}.
+     */
+    @Query(value = """
+            SELECT b.* FROM books b, websearch_to_tsquery('english', :query) q
+            WHERE b.search_vector @@ q
+            ORDER BY ts_rank(b.search_vector, q) DESC, b.id
+            LIMIT :limit OFFSET :offset""", nativeQuery = true)
+    List<Book> search(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Forward-only scan of the whole table. Must be consumed inside a transaction so the
+     * PostgreSQL driver honours the fetch size instead of buffering the full result.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Book b")
+    Stream<Book> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.library.dto.response.BookSuggestion(b.id, b.title, b.author) FROM Book b")
+    Stream<BookSuggestion> streamSuggestions();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b.isbn FROM Book b")
+    Stream<String> streamIsbns();
+}
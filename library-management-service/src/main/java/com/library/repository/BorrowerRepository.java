@@ -0,0 +1,79 @@
+package com.library.repository;
+
+import com.library.model.Borrower;
+import com.library.versioning.ResourceVersion;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+@Repository
+public interface BorrowerRepository extends JpaRepository<Borrower, UUID> {
+    Optional<Borrower> findByEmail(String email);
+
+    /**
+     * Inserts the borrower, and its {@code BORROWER_REGISTERED} outbox event, unless the email
+     * is taken. An empty result means the email is already registered.
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO borrowers (id, name, email, created_at, updated_at)
+                VALUES (gen_random_uuid(), :name, :email, :now, :now)
+                ON CONFLICT (email) DO NOTHING
+                RETURNING *
+            ), recorded AS (
+                INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+                SELECT 'BORROWER_REGISTERED', id,
+                       json_build_object('borrowerId', id, 'name', name, 'email', email)::text, :now
+                FROM inserted
+            )
+            SELECT * FROM inserted""", nativeQuery = true)
+    Optional<Borrower> insertIfAbsent(@Param("name") String name, @Param("email") String email,
+                                      @Param("now") long now);
+
+    /**
+     * Validator of a borrower for conditional GETs, see {@link ResourceVersion#of(Borrower)}.
+     */
+    @Query("SELECT new com.library.versioning.ResourceVersion(coalesce(b.updatedAt, -1L), coalesce(b.updatedAt, -1L)) "
+            + "FROM Borrower b WHERE b.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Change feed: rows last modified before {@code horizon}, in {@code (updated_at, id)} order,
+     * served by {@code idx_borrowers_updated_at_id}.
+     */
+    @Query(value = "SELECT * FROM borrowers WHERE updated_at < :horizon ORDER BY updated_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Borrower> findChangesFirstPage(@Param("horizon") long horizon, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM borrowers
+            WHERE (updated_at, id) > (:updatedAt, :id) AND updated_at < :horizon
+            ORDER BY updated_at, id LIMIT :limit""", nativeQuery = true)
+    List<Borrower> findChangesAfter(@Param("updatedAt") long updatedAt, @Param("id") UUID id,
+                                  @Param("horizon") long horizon, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM borrowers ORDER BY created_at, id LIMIT :limit", nativeQuery = true)
+    List<Borrower> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM borrowers WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit",
+            nativeQuery = true)
+    List<Borrower> findPageAfter(@Param("createdAt") long createdAt, @Param("id") UUID id, @Param("limit") int limit);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Borrower b")
+    Stream<Borrower> streamAll();
+}
@@ -0,0 +1,52 @@
+package com.library.repository;
+
+import com.library.model.Loan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loan history is paged newest first on {@code (borrowed_at, id)}, matching the composite
+ * indexes in V3 so every page is a bounded index range scan.
+ */
+@Repository
+public interface LoanRepository extends JpaRepository<Loan, UUID> {
+
+    @Query(value = """
+            SELECT * FROM loans WHERE book_id = :bookId
+            ORDER BY borrowed_at DESC, id DESC LIMIT :limit""", nativeQuery = true)
+    List<Loan> findByBookFirstPage(@Param("bookId") UUID bookId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM loans WHERE book_id = :bookId AND (borrowed_at, id) < (:borrowedAt, :id)
+            ORDER BY borrowed_at DESC, id DESC LIMIT :limit""", nativeQuery = true)
+    List<Loan> findByBookPageAfter(@Param("bookId") UUID bookId, @Param("borrowedAt") long borrowedAt,
+                                   @Param("id") UUID id, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM loans WHERE borrower_id = :borrowerId
+            ORDER BY borrowed_at DESC, id DESC LIMIT :limit""", nativeQuery = true)
+    List<Loan> findByBorrowerFirstPage(@Param("borrowerId") UUID borrowerId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM loans WHERE borrower_id = :borrowerId AND (borrowed_at, id) < (:borrowedAt, :id)
+            ORDER BY borrowed_at DESC, id DESC LIMIT :limit""", nativeQuery = true)
+    List<Loan> findByBorrowerPageAfter(@Param("borrowerId") UUID borrowerId, @Param("borrowedAt") long borrowedAt,
+                                       @Param("id") UUID id, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM loans WHERE borrower_id = :borrowerId AND returned_at IS NULL
+            ORDER BY borrowed_at DESC, id DESC LIMIT :limit""", nativeQuery = true)
+    List<Loan> findOpenByBorrowerFirstPage(@Param("borrowerId") UUID borrowerId, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM loans WHERE borrower_id = :borrowerId AND returned_at IS NULL
+              AND (borrowed_at, id) < (:borrowedAt, :id)
+            ORDER BY borrowed_at DESC, id DESC LIMIT :limit""", nativeQuery = true)
+    List<Loan> findOpenByBorrowerPageAfter(@Param("borrowerId") UUID borrowerId, @Param("borrowedAt") long borrowedAt,
+                                           @Param("id") UUID id, @Param("limit") int limit);
+}
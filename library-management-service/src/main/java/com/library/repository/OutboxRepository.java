@@ -0,0 +1,42 @@
+package com.library.repository;
+
+import com.library.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Single borrows, returns and registrations write their outbox rows from the same statement as
+ * the change (see {@link BookRepository} and {@link BorrowerRepository}); only batch
+ * registration and the relay go through here.
+ */
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Records {@code BOOK_REGISTERED} for books inserted earlier in the current transaction, one
+     * statement per batch.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+            SELECT 'BOOK_REGISTERED', id,
+                   json_build_object('bookId', id, 'isbn', isbn, 'title', title, 'author', author)::text, created_at
+            FROM books WHERE id IN (:bookIds)
+            ORDER BY created_at, id""", nativeQuery = true)
+    int recordBooksRegistered(@Param("bookIds") Collection<UUID> bookIds);
+
+    /**
+     * Oldest pending events, locked until the end of the transaction. Rows another relay worker
+     * has locked are skipped, so workers on any number of replicas drain disjoint batches.
+     */
+    @Query(value = "SELECT * FROM outbox_events ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
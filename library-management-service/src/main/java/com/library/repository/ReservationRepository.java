@@ -0,0 +1,50 @@
+package com.library.repository;
+
+import com.library.model.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    /**
+     * Whether the borrower is in the book's queue or currently has it on loan.
+     */
+    @Query(value = """
+            SELECT EXISTS (SELECT 1 FROM reservations WHERE book_id = :bookId AND borrower_id = :borrowerId)
+                OR EXISTS (SELECT 1 FROM loans
+                           WHERE book_id = :bookId AND borrower_id = :borrowerId AND returned_at IS NULL)""",
+            nativeQuery = true)
+    boolean isHeldOrReservedBy(@Param("bookId") UUID bookId, @Param("borrowerId") UUID borrowerId);
+
+    /**
+     * Removes the head of a book's queue, opens its loan and records the {@code BOOK_BORROWED}
+     * outbox event in a single statement. Only valid right after {@code returnIfBorrowed} kept
+     * the book borrowed, in the same transaction, which still holds the book row lock.
+     */
+    @Query(value = """
+            WITH head AS (
+                DELETE FROM reservations
+                WHERE id = (SELECT id FROM reservations WHERE book_id = :bookId ORDER BY id LIMIT 1)
+                RETURNING *
+            ), opened AS (
+                INSERT INTO loans (id, book_id, borrower_id, borrowed_at)
+                SELECT gen_random_uuid(), book_id, borrower_id, :now FROM head
+                RETURNING id, book_id, borrower_id
+            ), recorded AS (
+                INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+                SELECT 'BOOK_BORROWED', head.book_id,
+                       json_build_object('bookId', head.book_id, 'borrowerId', head.borrower_id,
+                                         'loanId', opened.id, 'version', :version,
+                                         'reservationId', head.id)::text, :now
+                FROM head JOIN opened ON opened.book_id = head.book_id
+            )
+            SELECT * FROM head""", nativeQuery = true)
+    Optional<Reservation> handOff(@Param("bookId") UUID bookId, @Param("version") long version,
+                                  @Param("now") long now);
+}
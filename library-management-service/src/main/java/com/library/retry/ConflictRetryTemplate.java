@@ -0,0 +1,112 @@
+package com.library.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs an action in its own transaction and, if it fails with a {@link ConcurrencyFailureException}
+ * (optimistic lock conflict, deadlock, lock or serialization failure), runs it again in a new
+ * transaction. The earlier attempt has been rolled back completely, so the retry is safe for any
+ * action whose effects are all inside the transaction.
+ * <p>
+ * Attempts are spaced with full-jitter exponential backoff and bounded by {@code max-attempts}
+ * and {@code deadline}; when either runs out the last failure is rethrown. Inside an existing
+ * transaction the action runs once, since only the outermost transaction can be retried.
+ */
+@Component
+@Slf4j
+public class ConflictRetryTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long deadlineNanos;
+
+    private final DistributionSummary attempts;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public ConflictRetryTemplate(PlatformTransactionManager transactionManager,
+                                 MeterRegistry registry,
+                                 @Value("${library.transaction.retry.max-attempts:4}") int maxAttempts,
+                                 @Value("${library.transaction.retry.initial-backoff:PT0.01S}") Duration initialBackoff,
+                                 @Value("${library.transaction.retry.max-backoff:PT0.2S}") Duration maxBackoff,
+                                 @Value("${library.transaction.retry.deadline:PT1S}") Duration deadline) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+        this.deadlineNanos = deadline.toNanos();
+        this.attempts = DistributionSummary.builder("library.transaction.attempts")
+                .description("Attempts needed per committed transaction")
+                .register(registry);
+        this.retries = Counter.builder("library.transaction.retries")
+                .description("Transactions run again after a lock or version conflict")
+                .register(registry);
+        this.exhausted = Counter.builder("library.transaction.retries.exhausted")
+                .description("Transactions that still conflicted after the last attempt")
+                .register(registry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        return execute(action, Supplier::get);
+    }
+
+    /**
+     * Like {@link #execute(Supplier)}, with {@code around} wrapped around each attempt and its
+     * transaction, e.g. to take a lock. {@code around} has returned before the backoff starts, so
+     * whatever it holds is released while this thread waits to retry.
+     */
+    public <T> T execute(Supplier<T> action, Function<Supplier<T>, T> around) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return around.apply(action);
+        }
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = around.apply(() -> transactionTemplate.execute(status -> action.get()));
+                attempts.record(attempt);
+                return result;
+            } catch (ConcurrencyFailureException ex) {
+                long delay = backoff(attempt);
+                if (attempt >= maxAttempts || System.nanoTime() + delay - start > deadlineNanos) {
+                    exhausted.increment();
+                    throw ex;
+                }
+                retries.increment();
+                log.debug("Transaction attempt {} conflicted ({}), retrying in {} us",
+                        attempt, ex.getClass().getSimpleName(), delay / 1000);
+                sleep(delay);
+            }
+        }
+    }
+
+    /** Full jitter: uniform between zero and the exponential cap for this attempt. */
+    private long backoff(int attempt) {
+        long cap = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 30));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry a transaction", ex);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.library.search;
+
+import com.library.dto.response.BookSuggestion;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over the words of book titles and authors.
+ * <p>
+ * Terms are kept in one sorted {@code String[]} with a parallel {@code int[]} of book ordinals,
+ * so a lookup is a binary search followed by a short forward scan. Equal adjacent terms share a
+ * single {@code String} instance. {@link #plus(Collection)} returns a new index and never
+ * mutates this one, which lets readers use it without locking.
+ */
+public final class PrefixIndex {
+
+    private static final PrefixIndex EMPTY = new PrefixIndex(new BookSuggestion[0], new String[0], new int[0]);
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    // Bounds the work of a single lookup on very common prefixes such as "a"
+    private static final int MAX_SCANNED_TERMS = 10_000;
+
+    private final BookSuggestion[] books;
+    private final String[] terms;
+    private final int[] ordinals;
+
+    private PrefixIndex(BookSuggestion[] books, String[] terms, int[] ordinals) {
+        this.books = books;
+        this.terms = terms;
+        this.ordinals = ordinals;
+    }
+
+    public static PrefixIndex empty() {
+        return EMPTY;
+    }
+
+    public static PrefixIndex build(Collection<BookSuggestion> books) {
+        return EMPTY.plus(books);
+    }
+
+    public PrefixIndex plus(Collection<BookSuggestion> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        BookSuggestion[] mergedBooks = Arrays.copyOf(books, books.length + added.size());
+        Map<String, Postings> postings = new HashMap<>();
+        int ordinal = books.length;
+        int addedEntries = 0;
+        for (BookSuggestion book : added) {
+            mergedBooks[ordinal] = book;
+            for (String term : termsOf(book)) {
+                postings.computeIfAbsent(term, key -> new Postings()).add(ordinal);
+                addedEntries++;
+            }
+            ordinal++;
+        }
+        String[] addedTerms = postings.keySet().toArray(new String[0]);
+        Arrays.sort(addedTerms);
+
+        String[] mergedTerms = new String[terms.length + addedEntries];
+        int[] mergedOrdinals = new int[mergedTerms.length];
+        int out = 0;
+        int left = 0;
+        for (String term : addedTerms) {
+            while (left < terms.length && terms[left].compareTo(term) <= 0) {
+                mergedTerms[out] = terms[left];
+                mergedOrdinals[out++] = ordinals[left++];
+            }
+            String shared = out > 0 && mergedTerms[out - 1].equals(term) ? mergedTerms[out - 1] : term;
+            Postings termPostings = postings.get(term);
+            for (int i = 0; i < termPostings.size; i++) {
+                mergedTerms[out] = shared;
+                mergedOrdinals[out++] = termPostings.values[i];
+            }
+        }
+        System.arraycopy(terms, left, mergedTerms, out, terms.length - left);
+        System.arraycopy(ordinals, left, mergedOrdinals, out, terms.length - left);
+        return new PrefixIndex(mergedBooks, mergedTerms, mergedOrdinals);
+    }
+
+    /**
+     * Books having a word that starts with the last query word and, for every earlier query
+     * word, a word that starts with it too.
+     */
+    public List<BookSuggestion> suggest(String query, int limit) {
+        String[] queryTerms = tokenize(query);
+        if (queryTerms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        String prefix = queryTerms[queryTerms.length - 1];
+        List<BookSuggestion> matches = new ArrayList<>(limit);
+        Set<UUID> seen = new HashSet<>();
+        int start = lowerBound(prefix);
+        int end = Math.min(terms.length, start + MAX_SCANNED_TERMS);
+        for (int i = start; i < end && terms[i].startsWith(prefix); i++) {
+            BookSuggestion book = books[ordinals[i]];
+            if (seen.add(book.getId()) && matchesAll(book, queryTerms)) {
+                matches.add(book);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    public List<BookSuggestion> books() {
+        return Collections.unmodifiableList(Arrays.asList(books));
+    }
+
+    public int bookCount() {
+        return books.length;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Rough retained size assuming compressed oops and compact Latin-1 strings.
+     */
+    public long estimatedBytes() {
+        long bytes = 16L + books.length * 4L + 16L + terms.length * 8L + 16L;
+        for (BookSuggestion book : books) {
+            bytes += 24 + 32 + stringBytes(book.getTitle()) + stringBytes(book.getAuthor());
+        }
+        String previous = null;
+        for (String term : terms) {
+            if (term != previous) {
+                bytes += stringBytes(term);
+                previous = term;
+            }
+        }
+        return bytes;
+    }
+
+    public static String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(NON_WORD.split(folded.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static Set<String> termsOf(BookSuggestion book) {
+        Set<String> result = new LinkedHashSet<>(Arrays.asList(tokenize(book.getTitle())));
+        result.addAll(Arrays.asList(tokenize(book.getAuthor())));
+        return result;
+    }
+
+    private static boolean matchesAll(BookSuggestion book, String[] queryTerms) {
+        if (queryTerms.length == 1) {
+            return true;
+        }
+        Set<String> bookTerms = termsOf(book);
+        for (int i = 0; i < queryTerms.length - 1; i++) {
+            String queryTerm = queryTerms[i];
+            if (bookTerms.stream().noneMatch(term -> term.startsWith(queryTerm))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 24 + 16 + value.length();
+    }
+
+    private static final class Postings {
+        private int[] values = new int[2];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+    }
+}
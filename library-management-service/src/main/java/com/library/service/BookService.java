@@ -0,0 +1,272 @@
+package com.library.service;
+
+import com.library.bloom.IsbnFilter;
+import com.library.dto.request.BookRequest;
+import com.library.dto.response.BatchItemResult;
+import com.library.dto.response.BatchItemStatus;
+import com.library.dto.response.BookBatchResponse;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.PageResponse;
+import com.library.event.BooksRegisteredEvent;
+import com.library.exception.BookNotFoundException;
+import com.library.exception.InvalidBookDataException;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.pagination.KeysetCursor;
+import com.library.pagination.OffsetCursor;
+import com.library.pagination.Pages;
+import com.library.repository.BookRepository;
+import com.library.repository.OutboxRepository;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookService {
+
+    static final int MAX_BATCH_SIZE = 5000;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int ISBN_LOOKUP_CHUNK_SIZE = 1000;
+    // Name PostgreSQL gave the UNIQUE constraint on books.isbn in V1
+    private static final String ISBN_UNIQUE_CONSTRAINT = "books_isbn_key";
+
+    private final BookRepository bookRepository;
+    private final OutboxRepository outboxRepository;
+    private final LibraryMapper libraryMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IsbnFilter isbnFilter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public BookResponse registerBook(BookRequest request) {
+        Book savedBook = bookRepository.insertIfAbsent(request.getIsbn(), request.getTitle(), request.getAuthor(),
+                        System.currentTimeMillis())
+                .orElseThrow(() -> duplicateIsbn(request.getIsbn()));
+        eventPublisher.publishEvent(new BooksRegisteredEvent(List.of(savedBook)));
+        log.info("Book registered successfully with ID: {}", savedBook.getId());
+        return libraryMapper.toBookResponse(savedBook);
+    }
+
+    /**
+     * Registers many books in one transaction. Items that fail validation or whose ISBN already
+     * exists (in the table or earlier in the same batch) are reported and skipped; the rest are
+     * inserted in JDBC batches, flushing and clearing the persistence context per chunk. Each
+     * chunk's outbox events are written by one further statement.
+     * <p>
+     * Only ISBNs the {@link IsbnFilter} cannot rule out are looked up. If one it ruled out turns
+     * out to exist (registered on another instance), the unique constraint aborts the transaction
+     * and the batch is run once more, looking up every ISBN. Any other integrity violation is
+     * not the filter's doing and is rethrown.
+     */
+    public BookBatchResponse registerBooks(List<BookRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " books.");
+        }
+        try {
+            return transactionTemplate.execute(status -> registerBatch(requests, true));
+        } catch (DataIntegrityViolationException | ConstraintViolationException ex) {
+            if (!violatesUniqueIsbn(ex)) {
+                throw ex;
+            }
+            isbnFilter.missed();
+            log.warn("Batch registration hit an ISBN the filter had ruled out, retrying with full lookup");
+            return transactionTemplate.execute(status -> registerBatch(requests, false));
+        }
+    }
+
+    private static boolean violatesUniqueIsbn(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return ISBN_UNIQUE_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private BookBatchResponse registerBatch(List<BookRequest> requests, boolean useFilter) {
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BookRequest request = requests.get(i);
+            String violations = describeViolations(request);
+            if (violations != null) {
+                results[i] = itemResult(i, request == null ? null : request.getIsbn(), BatchItemStatus.INVALID, null, violations);
+            } else if (candidates.putIfAbsent(request.getIsbn(), i) != null) {
+                results[i] = duplicate(i, request.getIsbn());
+            }
+        }
+
+        Set<String> existing = findExistingIsbns(candidates.keySet(), useFilter);
+        List<Book> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(INSERT_CHUNK_SIZE);
+        List<Book> registered = new ArrayList<>();
+        int created = 0;
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            if (existing.contains(candidate.getKey())) {
+                results[index] = duplicate(index, candidate.getKey());
+                continue;
+            }
+            chunk.add(libraryMapper.toBook(requests.get(index)));
+            chunkIndexes.add(index);
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                created += insertChunk(chunk, chunkIndexes, results, registered);
+            }
+        }
+        created += insertChunk(chunk, chunkIndexes, results, registered);
+        if (!registered.isEmpty()) {
+            eventPublisher.publishEvent(new BooksRegisteredEvent(registered));
+        }
+
+        int duplicates = 0;
+        for (BatchItemResult result : results) {
+            if (result.getStatus() == BatchItemStatus.DUPLICATE) {
+                duplicates++;
+            }
+        }
+        log.info("Batch registration finished: {} created, {} duplicates, {} invalid",
+                created, duplicates, results.length - created - duplicates);
+        return BookBatchResponse.builder()
+                .created(created)
+                .duplicates(duplicates)
+                .invalid(results.length - created - duplicates)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<PageResponse<BookResponse>> getAllBooks(String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit);
+        List<Book> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = bookRepository.findFirstPage(pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = bookRepository.findPageAfter(after.getPosition(), after.getId(), pageSize + 1);
+        }
+        PageResponse<BookResponse> page = Pages.slice(rows, pageSize, libraryMapper::toBookResponse,
+                book -> new KeysetCursor(book.getCreatedAt(), book.getId()));
+        return new Versioned<>(page, ResourceVersion.ofRows(rows, Book::getId, ResourceVersion::of));
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<BookResponse> searchBooks(String query, String cursor, Integer limit) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be between 1 and " + MAX_SEARCH_QUERY_LENGTH + " characters.");
+        }
+        int pageSize = KeysetCursor.pageSize(limit);
+        int offset = OffsetCursor.decode(cursor);
+        List<Book> rows = bookRepository.search(query, pageSize + 1, offset);
+
+        boolean hasMore = rows.size() > pageSize && offset + pageSize <= OffsetCursor.MAX_OFFSET;
+        List<Book> page = rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+        return PageResponse.<BookResponse>builder()
+                .items(page.stream().map(libraryMapper::toBookResponse).toList())
+                .next(hasMore ? OffsetCursor.encode(offset + pageSize) : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<BookResponse> getBookById(UUID id) {
+        return bookRepository.findById(id)
+                .map(book -> new Versioned<>(libraryMapper.toBookResponse(book), ResourceVersion.of(book)))
+                .orElseThrow(() -> new BookNotFoundException("Book not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getBookVersion(UUID id) {
+        return bookRepository.findVersionById(id)
+                .orElseThrow(() -> new BookNotFoundException("Book not found with id: " + id));
+    }
+
+    private String describeViolations(BookRequest request) {
+        if (request == null) {
+            return "Book entry is required";
+        }
+        Set<ConstraintViolation<BookRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private Set<String> findExistingIsbns(Collection<String> isbns, boolean useFilter) {
+        Set<String> existing = new HashSet<>();
+        List<String> pending = useFilter ? isbns.stream().filter(isbnFilter::mightContain).toList()
+                : new ArrayList<>(isbns);
+        for (int from = 0; from < pending.size(); from += ISBN_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + ISBN_LOOKUP_CHUNK_SIZE, pending.size());
+            existing.addAll(bookRepository.findExistingIsbns(pending.subList(from, to)));
+        }
+        // Includes ISBNs registered on other instances, so the filter stops ruling them out
+        isbnFilter.addAll(existing);
+        return existing;
+    }
+
+    private int insertChunk(List<Book> chunk, List<Integer> indexes, BatchItemResult[] results, List<Book> registered) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Book> saved = bookRepository.saveAll(chunk);
+        entityManager.flush();
+        outboxRepository.recordBooksRegistered(saved.stream().map(Book::getId).toList());
+        entityManager.clear();
+        registered.addAll(saved);
+        for (int i = 0; i < saved.size(); i++) {
+            Book book = saved.get(i);
+            results[indexes.get(i)] = itemResult(indexes.get(i), book.getIsbn(), BatchItemStatus.CREATED, book.getId(), null);
+        }
+        int inserted = saved.size();
+        chunk.clear();
+        indexes.clear();
+        return inserted;
+    }
+
+    private static InvalidBookDataException duplicateIsbn(String isbn) {
+        log.warn("Book with ISBN {} already exists", isbn);
+        return new InvalidBookDataException("Book with ISBN " + isbn + " already exists.");
+    }
+
+    private static BatchItemResult duplicate(int index, String isbn) {
+        return itemResult(index, isbn, BatchItemStatus.DUPLICATE, null, "Book with ISBN " + isbn + " already exists.");
+    }
+
+    private static BatchItemResult itemResult(int index, String isbn, BatchItemStatus status, UUID id, String message) {
+        return BatchItemResult.builder()
+                .index(index)
+                .isbn(isbn)
+                .status(status)
+                .id(id)
+                .message(message)
+                .build();
+    }
+}
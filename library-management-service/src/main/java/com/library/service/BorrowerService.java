@@ -0,0 +1,70 @@
+package com.library.service;
+
+import com.library.dto.request.BorrowerRequest;
+import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.PageResponse;
+import com.library.event.BorrowerRegisteredEvent;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Borrower;
+import com.library.pagination.KeysetCursor;
+import com.library.pagination.Pages;
+import com.library.repository.BorrowerRepository;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class BorrowerService {
+
+    private final BorrowerRepository borrowerRepository;
+    private final LibraryMapper libraryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BorrowerResponse registerBorrower(BorrowerRequest request) {
+        Borrower savedBorrower = borrowerRepository.insertIfAbsent(request.getName(), request.getEmail(),
+                        System.currentTimeMillis())
+                .orElseThrow(() -> duplicateEmail(request.getEmail()));
+        eventPublisher.publishEvent(new BorrowerRegisteredEvent(savedBorrower));
+        return libraryMapper.toBorrowerResponse(savedBorrower);
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<PageResponse<BorrowerResponse>> getAllBorrowers(String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit);
+        List<Borrower> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = borrowerRepository.findFirstPage(pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = borrowerRepository.findPageAfter(after.getPosition(), after.getId(), pageSize + 1);
+        }
+        PageResponse<BorrowerResponse> page = Pages.slice(rows, pageSize, libraryMapper::toBorrowerResponse,
+                borrower -> new KeysetCursor(borrower.getCreatedAt(), borrower.getId()));
+        return new Versioned<>(page, ResourceVersion.ofRows(rows, Borrower::getId, ResourceVersion::of));
+    }
+
+    @Transactional(readOnly = true)
+    public Versioned<BorrowerResponse> getBorrowerById(UUID id) {
+        return borrowerRepository.findById(id)
+                .map(borrower -> new Versioned<>(libraryMapper.toBorrowerResponse(borrower), ResourceVersion.of(borrower)))
+                .orElseThrow(() -> new IllegalArgumentException("Borrower not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getBorrowerVersion(UUID id) {
+        return borrowerRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Borrower not found with id: " + id));
+    }
+
+    private static IllegalArgumentException duplicateEmail(String email) {
+        return new IllegalArgumentException("Borrower with email " + email + " already exists.");
+    }
+}
@@ -0,0 +1,170 @@
+package com.library.service;
+
+import com.library.admission.BookAdmission;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.ReservationResponse;
+import com.library.dto.response.ReservationStatus;
+import com.library.event.BookStatusChangedEvent;
+import com.library.exception.BookAlreadyBorrowedException;
+import com.library.exception.BookAlreadyReservedException;
+import com.library.exception.BookNotFoundException;
+import com.library.mapper.LibraryMapper;
+import com.library.metrics.LibraryMetrics;
+import com.library.model.Book;
+import com.library.model.BookStatus;
+import com.library.model.Reservation;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import com.library.repository.ReservationRepository;
+import com.library.retry.ConflictRetryTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BorrowingService {
+
+    /** Reserve attempts when the book keeps changing hands between the queue and borrow statements. */
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final BookRepository bookRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final ReservationRepository reservationRepository;
+    private final LibraryMapper libraryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LibraryMetrics metrics;
+    private final ConflictRetryTemplate conflictRetry;
+    private final BookAdmission admission;
+
+    public BookResponse borrowBook(UUID bookId, UUID borrowerId) {
+        return conflictRetry.execute(() -> borrowInTransaction(bookId, borrowerId),
+                attempt -> admission.execute(bookId, true, attempt, BookResponse::getStatus));
+    }
+
+    private BookResponse borrowInTransaction(UUID bookId, UUID borrowerId) {
+        log.info("Attempting to borrow book {} for borrower {}", bookId, borrowerId);
+        Optional<Book> borrowed = bookRepository.borrowIfAvailable(bookId, borrowerId, System.currentTimeMillis());
+        if (borrowed.isPresent()) {
+            eventPublisher.publishEvent(new BookStatusChangedEvent(bookId, BookStatus.BORROWED));
+            log.info("Book {} successfully borrowed by {}", bookId, borrowerId);
+            return libraryMapper.toBookResponse(borrowed.get());
+        }
+        throw explainBorrowFailure(bookId, borrowerId);
+    }
+
+    /**
+     * Returns the book. If borrowers are waiting for it, it is handed to the head of the queue in
+     * the same transaction instead of becoming available, so there is nothing to race for.
+     */
+    public BookResponse returnBook(UUID bookId) {
+        return conflictRetry.execute(() -> returnInTransaction(bookId),
+                attempt -> admission.execute(bookId, false, attempt, BookResponse::getStatus));
+    }
+
+    private BookResponse returnInTransaction(UUID bookId) {
+        long now = System.currentTimeMillis();
+        Optional<Book> returned = bookRepository.returnIfBorrowed(bookId, now);
+        if (returned.isPresent()) {
+            Book book = returned.get();
+            if (book.getStatus() == BookStatus.BORROWED) {
+                Reservation head = reservationRepository.handOff(bookId, book.getVersion(), now)
+                        .orElseThrow(() -> new IllegalStateException("Book " + bookId + " has no reservation to hand off to"));
+                metrics.reservationHandedOff();
+                log.info("Book {} handed to borrower {} from its reservation queue", bookId, head.getBorrowerId());
+            }
+            eventPublisher.publishEvent(new BookStatusChangedEvent(bookId, book.getStatus()));
+            return libraryMapper.toBookResponse(book);
+        }
+
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new BookNotFoundException("Book not found with ID: " + bookId));
+        return libraryMapper.toBookResponse(book);
+    }
+
+    /**
+     * Puts the borrower in the book's hold queue, or lends the book straight away when it is
+     * available.
+     */
+    public ReservationResponse reserveBook(UUID bookId, UUID borrowerId) {
+        // Queued or borrowed right away, the book ends up borrowed either way
+        return conflictRetry.execute(() -> reserveInTransaction(bookId, borrowerId),
+                attempt -> admission.execute(bookId, false, attempt, reservation -> BookStatus.BORROWED));
+    }
+
+    private ReservationResponse reserveInTransaction(UUID bookId, UUID borrowerId) {
+        for (int attempt = 1; ; attempt++) {
+            long now = System.currentTimeMillis();
+            Optional<Book> held = bookRepository.reserveIfBorrowed(bookId, borrowerId, now);
+            if (held.isPresent()) {
+                metrics.reservationQueued();
+                log.info("Borrower {} reserved book {} at position {}", borrowerId, bookId, held.get().getReservationCount());
+                return reservation(bookId, borrowerId, ReservationStatus.QUEUED, held.get().getReservationCount(), now);
+            }
+            if (bookRepository.borrowIfAvailable(bookId, borrowerId, now).isPresent()) {
+                eventPublisher.publishEvent(new BookStatusChangedEvent(bookId, BookStatus.BORROWED));
+                log.info("Book {} was available and is borrowed by {} instead of reserved", bookId, borrowerId);
+                return reservation(bookId, borrowerId, ReservationStatus.BORROWED, 0, now);
+            }
+            RuntimeException failure = explainReserveFailure(bookId, borrowerId);
+            if (failure != null) {
+                throw failure;
+            }
+            if (attempt == MAX_RESERVE_ATTEMPTS) {
+                metrics.borrowConflict();
+                throw new BookAlreadyBorrowedException("Book with ID " + bookId + " changed hands too often to reserve it.");
+            }
+        }
+    }
+
+    /**
+     * Only runs when the conditional update matched no row, so the common path stays at a
+     * single statement.
+     */
+    private RuntimeException explainBorrowFailure(UUID bookId, UUID borrowerId) {
+        if (!borrowerRepository.existsById(borrowerId)) {
+            log.error("Borrower not found with ID: {}", borrowerId);
+            return new IllegalArgumentException("Borrower not found with ID: " + borrowerId);
+        }
+        if (!bookRepository.existsById(bookId)) {
+            log.error("Book not found with ID: {}", bookId);
+            return new BookNotFoundException("Book not found with ID: " + bookId);
+        }
+        log.warn("Book {} is already borrowed", bookId);
+        metrics.borrowConflict();
+        return new BookAlreadyBorrowedException("Book with ID " + bookId + " is already borrowed.");
+    }
+
+    /**
+     * Explains why neither the reservation nor the borrow went through, or returns {@code null}
+     * when the book was returned and borrowed again between the two statements.
+     */
+    private RuntimeException explainReserveFailure(UUID bookId, UUID borrowerId) {
+        if (!borrowerRepository.existsById(borrowerId)) {
+            return new IllegalArgumentException("Borrower not found with ID: " + borrowerId);
+        }
+        if (!bookRepository.existsById(bookId)) {
+            return new BookNotFoundException("Book not found with ID: " + bookId);
+        }
+        if (reservationRepository.isHeldOrReservedBy(bookId, borrowerId)) {
+            return new BookAlreadyReservedException("Borrower " + borrowerId + " already holds or reserved book " + bookId);
+        }
+        return null;
+    }
+
+    private static ReservationResponse reservation(UUID bookId, UUID borrowerId, ReservationStatus status,
+                                                   int position, long reservedAt) {
+        return ReservationResponse.builder()
+                .bookId(bookId)
+                .borrowerId(borrowerId)
+                .status(status)
+                .position(position)
+                .reservedAt(reservedAt)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.library.service;
+
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.ChangesResponse;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.model.Borrower;
+import com.library.pagination.KeysetCursor;
+import com.library.pagination.Pages;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Incremental sync: books and borrowers whose {@code updated_at} is past a cursor, in
+ * {@code (updated_at, id)} order, so a client re-reads only what changed since its last poll.
+ * <p>
+ * {@code updated_at} is stamped by the application before the row is written, so a transaction
+ * can commit a timestamp older than rows another client has already seen. Only rows older than
+ * the settle time are returned; it must exceed the longest write transaction plus the clock
+ * skew between instances, otherwise such a change could be skipped.
+ * <p>
+ * For the same reason the feed is read from the primary: its transactions are not marked
+ * read-only, so they are not routed to a replica whose lag could exceed the settle time.
+ */
+@Service
+public class ChangeFeedService {
+
+    private final BookRepository bookRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final LibraryMapper libraryMapper;
+    private final long settleMillis;
+
+    public ChangeFeedService(BookRepository bookRepository,
+                             BorrowerRepository borrowerRepository,
+                             LibraryMapper libraryMapper,
+                             @Value("${library.changes.settle-time:PT5S}") Duration settleTime) {
+        this.bookRepository = bookRepository;
+        this.borrowerRepository = borrowerRepository;
+        this.libraryMapper = libraryMapper;
+        this.settleMillis = settleTime.toMillis();
+    }
+
+    @Transactional
+    public ChangesResponse<BookResponse> getBookChanges(String since, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit);
+        long horizon = horizon();
+        List<Book> rows;
+        if (since == null || since.isBlank()) {
+            rows = bookRepository.findChangesFirstPage(horizon, pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(since);
+            rows = bookRepository.findChangesAfter(after.getPosition(), after.getId(), horizon, pageSize + 1);
+        }
+        return Pages.changes(rows, pageSize, libraryMapper::toBookResponse,
+                book -> new KeysetCursor(book.getUpdatedAt(), book.getId()), since);
+    }
+
+    @Transactional
+    public ChangesResponse<BorrowerResponse> getBorrowerChanges(String since, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit);
+        long horizon = horizon();
+        List<Borrower> rows;
+        if (since == null || since.isBlank()) {
+            rows = borrowerRepository.findChangesFirstPage(horizon, pageSize + 1);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(since);
+            rows = borrowerRepository.findChangesAfter(after.getPosition(), after.getId(), horizon, pageSize + 1);
+        }
+        return Pages.changes(rows, pageSize, libraryMapper::toBorrowerResponse,
+                borrower -> new KeysetCursor(borrower.getUpdatedAt(), borrower.getId()), since);
+    }
+
+    private long horizon() {
+        return System.currentTimeMillis() - settleMillis;
+    }
+}
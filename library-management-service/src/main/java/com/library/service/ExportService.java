@@ -0,0 +1,79 @@
+package com.library.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.model.Borrower;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes whole tables as newline-delimited JSON. Rows are read through a forward-only
+ * cursor and detached as soon as they are written, so heap usage stays flat regardless
+ * of table size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final BookRepository bookRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final LibraryMapper libraryMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long exportBooks(OutputStream out) throws IOException {
+        try (Stream<Book> books = bookRepository.streamAll()) {
+            long count = writeNdjson(books, libraryMapper::toBookResponse, out);
+            log.info("Exported {} books", count);
+            return count;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportBorrowers(OutputStream out) throws IOException {
+        try (Stream<Borrower> borrowers = borrowerRepository.streamAll()) {
+            long count = writeNdjson(borrowers, libraryMapper::toBorrowerResponse, out);
+            log.info("Exported {} borrowers", count);
+            return count;
+        }
+    }
+
+    private <E> long writeNdjson(Stream<E> rows, Function<E, ?> mapper, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E row = iterator.next();
+                writer.writeValue(generator, mapper.apply(row));
+                generator.writeRaw('\n');
+                entityManager.detach(row);
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
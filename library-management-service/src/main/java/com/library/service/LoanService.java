@@ -0,0 +1,70 @@
+package com.library.service;
+
+import com.library.dto.response.LoanResponse;
+import com.library.dto.response.PageResponse;
+import com.library.exception.BookNotFoundException;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Loan;
+import com.library.pagination.KeysetCursor;
+import com.library.pagination.Pages;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import com.library.repository.LoanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class LoanService {
+
+    private final LoanRepository loanRepository;
+    private final BookRepository bookRepository;
+    private final BorrowerRepository borrowerRepository;
+    private final LibraryMapper libraryMapper;
+
+    @Transactional(readOnly = true)
+    public PageResponse<LoanResponse> getBookLoans(UUID bookId, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit);
+        List<Loan> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = loanRepository.findByBookFirstPage(bookId, pageSize + 1);
+            // An empty first page is the only case where the book itself needs looking up
+            if (rows.isEmpty() && !bookRepository.existsById(bookId)) {
+                throw new BookNotFoundException("Book not found with id: " + bookId);
+            }
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = loanRepository.findByBookPageAfter(bookId, after.getPosition(), after.getId(), pageSize + 1);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<LoanResponse> getBorrowerLoans(UUID borrowerId, boolean openOnly, String cursor, Integer limit) {
+        int pageSize = KeysetCursor.pageSize(limit);
+        List<Loan> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = openOnly
+                    ? loanRepository.findOpenByBorrowerFirstPage(borrowerId, pageSize + 1)
+                    : loanRepository.findByBorrowerFirstPage(borrowerId, pageSize + 1);
+            if (rows.isEmpty() && !borrowerRepository.existsById(borrowerId)) {
+                throw new IllegalArgumentException("Borrower not found with id: " + borrowerId);
+            }
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = openOnly
+                    ? loanRepository.findOpenByBorrowerPageAfter(borrowerId, after.getPosition(), after.getId(), pageSize + 1)
+                    : loanRepository.findByBorrowerPageAfter(borrowerId, after.getPosition(), after.getId(), pageSize + 1);
+        }
+        return toPage(rows, pageSize);
+    }
+
+    private PageResponse<LoanResponse> toPage(List<Loan> rows, int pageSize) {
+        return Pages.slice(rows, pageSize, libraryMapper::toLoanResponse,
+                loan -> new KeysetCursor(loan.getBorrowedAt(), loan.getId()));
+    }
+}
@@ -0,0 +1,180 @@
+package com.library.service;
+
+import com.library.dto.response.BookSuggestion;
+import com.library.event.BooksRegisteredEvent;
+import com.library.repository.BookRepository;
+import com.library.search.PrefixIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Serves search-as-you-type suggestions from memory. A large base index is built once at
+ * startup; books committed afterwards go into a small delta index. Once the delta reaches
+ * {@link #DELTA_MERGE_THRESHOLD} books it is frozen and folded into the base on a single
+ * background thread, since copying the base is O(catalog). The commit listener only ever
+ * appends to the delta, and lookups keep reading the frozen delta until the merge is published.
+ * No merge starts before the base is built, since it would fold books into a base that the
+ * startup scan is about to replace.
+ */
+@Service
+@Slf4j
+public class SuggestionService {
+
+    static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+    static final int DELTA_MERGE_THRESHOLD = 256;
+
+    private final BookRepository bookRepository;
+    private final Executor merger;
+
+    private final Object writeLock = new Object();
+    private volatile Indexes indexes = new Indexes(PrefixIndex.empty(), PrefixIndex.empty(), PrefixIndex.empty());
+    // Guarded by writeLock; set once the startup scan has been published as the base
+    private boolean baseBuilt;
+
+    @Autowired
+    public SuggestionService(BookRepository bookRepository) {
+        this(bookRepository,
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("suggestion-merge").daemon().factory()));
+    }
+
+    SuggestionService(BookRepository bookRepository, Executor merger) {
+        this.bookRepository = bookRepository;
+        this.merger = merger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildIndex() {
+        long started = System.nanoTime();
+        PrefixIndex base;
+        try (Stream<BookSuggestion> books = bookRepository.streamSuggestions()) {
+            base = PrefixIndex.build(books.toList());
+        }
+        boolean merge;
+        synchronized (writeLock) {
+            // Books committed while the table was being scanned are already in the delta
+            indexes = new Indexes(base, indexes.merging, indexes.delta);
+            baseBuilt = true;
+            merge = freezeDeltaIfFull();
+        }
+        if (merge) {
+            merger.execute(this::mergeFrozenDelta);
+        }
+        log.info("Suggestion index built: {} books, {} terms, ~{} KiB in {} ms",
+                base.bookCount(), base.termCount(), base.estimatedBytes() / 1024,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onBooksRegistered(BooksRegisteredEvent event) {
+        List<BookSuggestion> added = event.getBooks().stream()
+                .map(book -> new BookSuggestion(book.getId(), book.getTitle(), book.getAuthor()))
+                .toList();
+        boolean merge;
+        synchronized (writeLock) {
+            Indexes current = indexes;
+            indexes = new Indexes(current.base, current.merging, current.delta.plus(added));
+            merge = freezeDeltaIfFull();
+        }
+        if (merge) {
+            merger.execute(this::mergeFrozenDelta);
+        }
+    }
+
+    /** Must hold {@code writeLock}. Returns whether a merge should be scheduled. */
+    private boolean freezeDeltaIfFull() {
+        Indexes current = indexes;
+        if (!baseBuilt || current.delta.bookCount() < DELTA_MERGE_THRESHOLD || current.merging.bookCount() > 0) {
+            return false;
+        }
+        indexes = new Indexes(current.base, current.delta, PrefixIndex.empty());
+        return true;
+    }
+
+    private void mergeFrozenDelta() {
+        boolean again;
+        try {
+            // Only this thread replaces the base once it is built, so the snapshot's base is still current
+            Indexes snapshot = indexes;
+            PrefixIndex merged = snapshot.base.plus(snapshot.merging.books());
+            synchronized (writeLock) {
+                indexes = new Indexes(merged, PrefixIndex.empty(), indexes.delta);
+                again = freezeDeltaIfFull();
+            }
+        } catch (RuntimeException ex) {
+            log.error("Suggestion delta merge failed, keeping the books in the delta", ex);
+            synchronized (writeLock) {
+                Indexes current = indexes;
+                indexes = new Indexes(current.base, PrefixIndex.empty(), current.merging.plus(current.delta.books()));
+            }
+            return;
+        }
+        if (again) {
+            merger.execute(this::mergeFrozenDelta);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (merger instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    public List<BookSuggestion> suggest(String prefix, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        Indexes current = indexes;
+        Map<UUID, BookSuggestion> matches = new LinkedHashMap<>();
+        for (BookSuggestion book : current.base.suggest(prefix, size)) {
+            matches.put(book.getId(), book);
+        }
+        addUpTo(matches, current.merging, prefix, size);
+        addUpTo(matches, current.delta, prefix, size);
+        return new ArrayList<>(matches.values());
+    }
+
+    private static void addUpTo(Map<UUID, BookSuggestion> matches, PrefixIndex index, String prefix, int size) {
+        if (matches.size() >= size) {
+            return;
+        }
+        for (BookSuggestion book : index.suggest(prefix, size)) {
+            if (matches.size() == size) {
+                break;
+            }
+            matches.putIfAbsent(book.getId(), book);
+        }
+    }
+
+    private static final class Indexes {
+        private final PrefixIndex base;
+        // Frozen delta being folded into the base; empty when no merge is running
+        private final PrefixIndex merging;
+        private final PrefixIndex delta;
+
+        private Indexes(PrefixIndex base, PrefixIndex merging, PrefixIndex delta) {
+            this.base = base;
+            this.merging = merging;
+            this.delta = delta;
+        }
+    }
+}
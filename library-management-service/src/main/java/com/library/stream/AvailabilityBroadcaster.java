@@ -0,0 +1,190 @@
+package com.library.stream;
+
+import com.library.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans book availability changes out to Server-Sent Events subscribers.
+ * <p>
+ * Each event is encoded once and the same bytes are queued for every subscriber. A subscriber
+ * has a bounded queue drained by its own virtual thread, so a slow client only blocks itself;
+ * when its queue is full it is disconnected instead of buffering without limit, and can
+ * reconnect and re-read the books it cares about. Idle streams get a comment line every
+ * {@code library.availability.heartbeat-interval}, which keeps proxies from closing them and
+ * detects clients that went away.
+ */
+@Component
+@Slf4j
+public class AvailabilityBroadcaster implements MeterBinder {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = frame(":\n\n");
+    private static final Set<DataWithMediaType> RESYNC = frame("event:resync\ndata:{}\n\n");
+    private static final Set<DataWithMediaType> WAKE_UP = Set.of();
+
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long heartbeatMillis;
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final ExecutorService writers =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("availability-sse-", 0).factory());
+
+    public AvailabilityBroadcaster(@Value("${library.availability.max-subscribers:10000}") int maxSubscribers,
+                                   @Value("${library.availability.buffer-size:64}") int bufferSize,
+                                   @Value("${library.availability.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                   @Value("${library.availability.stream-timeout:PT30M}") Duration streamTimeout) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.heartbeatMillis = heartbeatInterval.toMillis();
+        this.timeoutMillis = streamTimeout.toMillis();
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter);
+        return emitter;
+    }
+
+    /**
+     * Sends a {@code book_availability} notification payload, a single-line JSON object, to
+     * every subscriber as an {@code availability} event.
+     */
+    public void publish(String payload) {
+        broadcast(frame("event:availability\ndata:" + payload + "\n\n"));
+        published.incrementAndGet();
+    }
+
+    /**
+     * Tells subscribers that events may have been missed, e.g. while the database connection
+     * was being re-established, so they should re-read the books they display.
+     */
+    public void publishResync() {
+        broadcast(RESYNC);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("library.availability.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open availability streams")
+                .register(registry);
+        FunctionCounter.builder("library.availability.events", published, AtomicLong::get)
+                .description("Availability changes sent to the open streams")
+                .register(registry);
+        FunctionCounter.builder("library.availability.evictions", evictions, AtomicLong::get)
+                .description("Availability streams closed because the client fell behind")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(Subscriber::close);
+        writers.shutdown();
+    }
+
+    void register(SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceOverloadedException("Too many open availability streams. Please retry later.");
+        }
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        writers.execute(subscriber);
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    long evictionCount() {
+        return evictions.get();
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(frame)) {
+                evictions.incrementAndGet();
+                log.debug("Closing availability stream that fell {} events behind", bufferSize);
+                subscriber.close();
+            }
+        }
+    }
+
+    private static Set<DataWithMediaType> frame(String text) {
+        return Set.of(new DataWithMediaType(text.getBytes(StandardCharsets.UTF_8), null));
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed.get()) {
+                    Set<DataWithMediaType> frame = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (closed.get()) {
+                        break;
+                    }
+                    emitter.send(frame != null ? frame : HEARTBEAT);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client disconnected or the emitter has already completed
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Only flags the subscriber and wakes its writer, which completes the emitter; a writer
+         * stuck on a slow socket must not block the thread that evicts it.
+         */
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                subscriberCount.decrementAndGet();
+                queue.clear();
+                queue.offer(WAKE_UP);
+            }
+        }
+    }
+}
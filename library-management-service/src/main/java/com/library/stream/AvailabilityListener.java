@@ -0,0 +1,153 @@
+package com.library.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.cache.JsonResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Listens on the {@code book_availability} channel, which a trigger on {@code books} notifies
+ * when a status or version change commits, hands each notification to the
+ * {@link AvailabilityBroadcaster} and evicts the book from the {@link JsonResponseCache}.
+ * Every replica listens, so subscribers and caches see borrows and returns made through any of them.
+ * <p>
+ * One dedicated connection is used per process, opened outside the Hikari pool so it never
+ * takes a slot from request traffic. If it fails, it is re-opened with exponential backoff and
+ * subscribers are told to resync and cached books are dropped, since notifications sent in the
+ * meantime are lost.
+ */
+@Component
+@Slf4j
+public class AvailabilityListener implements SmartLifecycle {
+
+    static final String CHANNEL = "book_availability";
+
+    private static final long INITIAL_BACKOFF_MILLIS = 500;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final AvailabilityBroadcaster broadcaster;
+    private final JsonResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final int pollMillis;
+    private final long maxBackoffMillis;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public AvailabilityListener(DataSourceProperties dataSourceProperties,
+                                AvailabilityBroadcaster broadcaster,
+                                JsonResponseCache responseCache,
+                                ObjectMapper objectMapper,
+                                @Value("${library.availability.listen-poll-interval:PT10S}") Duration pollInterval,
+                                @Value("${library.availability.max-reconnect-backoff:PT30S}") Duration maxBackoff) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.broadcaster = broadcaster;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.pollMillis = (int) pollInterval.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("availability-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = connect()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Listening for book availability changes on channel {}", CHANNEL);
+                if (reconnecting) {
+                    responseCache.invalidateAllBooks();
+                    broadcaster.publishResync();
+                }
+                backoffMillis = INITIAL_BACKOFF_MILLIS;
+                receive(connection);
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                reconnecting = true;
+                log.warn("Availability listener connection failed ({}), reconnecting in {} ms",
+                        ex.getMessage(), backoffMillis);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+            }
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+            if (notifications == null || notifications.length == 0) {
+                // A quiet channel cannot be told apart from a dead connection without a round trip
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                evict(notification.getParameter());
+                broadcaster.publish(notification.getParameter());
+            }
+        }
+    }
+
+    void evict(String payload) {
+        try {
+            responseCache.invalidateBook(UUID.fromString(objectMapper.readTree(payload).path("id").asText()));
+        } catch (IOException | IllegalArgumentException ex) {
+            log.warn("Unreadable book_availability payload {}, dropping all cached books", payload);
+            responseCache.invalidateAllBooks();
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("ApplicationName", "library-availability-listener");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+}
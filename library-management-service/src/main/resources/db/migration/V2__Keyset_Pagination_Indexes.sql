@@ -0,0 +1,3 @@
+CREATE INDEX idx_books_created_at_id ON books (created_at, id);
+
+CREATE INDEX idx_borrowers_created_at_id ON borrowers (created_at, id);
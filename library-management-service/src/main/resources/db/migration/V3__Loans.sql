@@ -0,0 +1,17 @@
+CREATE TABLE loans (
+    id UUID PRIMARY KEY,
+    book_id UUID NOT NULL REFERENCES books (id),
+    borrower_id UUID NOT NULL REFERENCES borrowers (id),
+    borrowed_at BIGINT NOT NULL,
+    returned_at BIGINT
+);
+
+-- At most one open loan per book
+CREATE UNIQUE INDEX uq_loans_open_book ON loans (book_id) WHERE returned_at IS NULL;
+
+-- Loan history of a book / borrower, newest first
+CREATE INDEX idx_loans_book_borrowed_at ON loans (book_id, borrowed_at, id);
+CREATE INDEX idx_loans_borrower_borrowed_at ON loans (borrower_id, borrowed_at, id);
+
+-- Current loans of a borrower
+CREATE INDEX idx_loans_borrower_open ON loans (borrower_id, borrowed_at, id) WHERE returned_at IS NULL;
@@ -0,0 +1,10 @@
+-- The change feed seeks on (updated_at, id); a NULL updated_at would never be returned
+UPDATE books SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE borrowers SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE books ALTER COLUMN updated_at SET NOT NULL;
+ALTER TABLE borrowers ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_books_updated_at_id ON books (updated_at, id);
+
+CREATE INDEX idx_borrowers_updated_at_id ON borrowers (updated_at, id);
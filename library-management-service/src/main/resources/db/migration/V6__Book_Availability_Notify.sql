@@ -0,0 +1,15 @@
+-- Publishes every status change of a book on the book_availability channel. NOTIFY is
+-- transactional, so listeners only receive it once the borrow or return has committed.
+CREATE FUNCTION notify_book_availability() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('book_availability',
+        json_build_object('id', NEW.id, 'status', NEW.status, 'version', NEW.version)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER books_availability_notify
+    AFTER UPDATE OF status ON books
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION notify_book_availability();
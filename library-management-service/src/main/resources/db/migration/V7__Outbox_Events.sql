@@ -0,0 +1,10 @@
+-- Transactional outbox. Each borrow, return and registration inserts its event in the same
+-- statement as the change itself; the relay locks batches in id order and deletes them once
+-- they have been delivered.
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    payload TEXT NOT NULL,
+    created_at BIGINT NOT NULL
+);
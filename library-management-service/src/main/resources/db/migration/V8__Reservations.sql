@@ -0,0 +1,18 @@
+-- Per-book FIFO hold queue. A book with reservations stays BORROWED: returning it hands it to
+-- the head of the queue in the same transaction instead of making it AVAILABLE.
+CREATE TABLE reservations (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    book_id UUID NOT NULL REFERENCES books (id),
+    borrower_id UUID NOT NULL REFERENCES borrowers (id),
+    reserved_at BIGINT NOT NULL
+);
+
+-- Queue order of a book; ids are assigned while the book row is locked, so they are FIFO
+CREATE INDEX idx_reservations_book_queue ON reservations (book_id, id);
+
+-- A borrower holds at most one place in a book's queue
+CREATE UNIQUE INDEX uq_reservations_book_borrower ON reservations (book_id, borrower_id);
+
+-- Length of the queue, kept on the book row so that a return sees reservations committed while
+-- it waited for the row lock (the rest of its statement reads an older snapshot)
+ALTER TABLE books ADD COLUMN reservation_count INT NOT NULL DEFAULT 0;
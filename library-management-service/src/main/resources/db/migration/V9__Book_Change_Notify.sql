@@ -0,0 +1,9 @@
+-- Also notify when a book changes hands without changing status (a return handed straight to
+-- the next reservation), so every instance can evict its cached response for the book.
+DROP TRIGGER books_availability_notify ON books;
+
+CREATE TRIGGER books_availability_notify
+    AFTER UPDATE OF status, version ON books
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status OR OLD.version IS DISTINCT FROM NEW.version)
+    EXECUTE FUNCTION notify_book_availability();
@@ -0,0 +1,181 @@
+package com.library.admission;
+
+import com.library.exception.BookAlreadyBorrowedException;
+import com.library.exception.ServiceOverloadedException;
+import com.library.model.BookStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookAdmissionTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UUID bookId = UUID.randomUUID();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Execute - A Borrow Queued Behind A Conflicting Borrow Fails Fast")
+    void execute_QueuedBorrowFailsFast() throws Exception {
+        // Given
+        BookAdmission admission = new BookAdmission(registry, true, 100, Duration.ofSeconds(5));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<BookStatus> winner = CompletableFuture.supplyAsync(() -> admission.execute(bookId, true, () -> {
+            running.countDown();
+            await(release);
+            return BookStatus.BORROWED;
+        }, Function.identity()), executor);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<BookStatus> second = borrow(admission, calls);
+        awaitWaiting(1);
+        CompletableFuture<BookStatus> third = borrow(admission, calls);
+        awaitWaiting(2);
+
+        // When
+        release.countDown();
+
+        // Then
+        assertEquals(BookStatus.BORROWED, winner.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(BookAlreadyBorrowedException.class,
+                assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+        assertInstanceOf(BookAlreadyBorrowedException.class,
+                assertThrows(ExecutionException.class, () -> third.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals(1, calls.get());
+        assertEquals(1, registry.get("library.admission.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("Execute - A Borrow Arriving After The Outcome Still Runs")
+    void execute_LaterBorrowRuns() {
+        // Given
+        BookAdmission admission = new BookAdmission(registry, true, 100, Duration.ofSeconds(5));
+        admission.execute(bookId, true, () -> BookStatus.BORROWED, Function.identity());
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        assertThrows(BookAlreadyBorrowedException.class, () -> admission.execute(bookId, true, () -> {
+            calls.incrementAndGet();
+            throw new BookAlreadyBorrowedException("already borrowed");
+        }, Function.identity()));
+
+        // Then
+        assertEquals(1, calls.get());
+        assertEquals(0, registry.get("library.admission.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("Execute - Rejects An Operation That Waited Too Long")
+    void execute_TimesOut() throws Exception {
+        // Given
+        BookAdmission admission = new BookAdmission(registry, true, 100, Duration.ofMillis(50));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<BookStatus> holder = CompletableFuture.supplyAsync(() -> admission.execute(bookId, false, () -> {
+            running.countDown();
+            await(release);
+            return BookStatus.AVAILABLE;
+        }, Function.identity()), executor);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class,
+                () -> admission.execute(bookId, false, () -> BookStatus.AVAILABLE, Function.identity()));
+        assertEquals(1, registry.get("library.admission.timeouts").counter().count());
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Execute - Operations On Other Books Do Not Wait")
+    void execute_OtherBooksDoNotWait() throws Exception {
+        // Given
+        BookAdmission admission = new BookAdmission(registry, true, 100, Duration.ofMillis(50));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<BookStatus> hot = CompletableFuture.supplyAsync(() -> admission.execute(bookId, false, () -> {
+            running.countDown();
+            await(release);
+            return BookStatus.AVAILABLE;
+        }, Function.identity()), executor);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(BookStatus.AVAILABLE,
+                    admission.execute(UUID.randomUUID(), false, () -> BookStatus.AVAILABLE, Function.identity()));
+        }
+
+        // Then
+        assertEquals(0, registry.get("library.admission.timeouts").counter().count());
+        assertEquals(1, registry.get("library.admission.books").gauge().value());
+        release.countDown();
+        hot.get(5, TimeUnit.SECONDS);
+        assertEquals(0, registry.get("library.admission.books").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Execute - Rejects A New Book Past The Limit")
+    void execute_RejectsPastMaxBooks() throws Exception {
+        // Given
+        BookAdmission admission = new BookAdmission(registry, true, 1, Duration.ofSeconds(5));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<BookStatus> holder = CompletableFuture.supplyAsync(() -> admission.execute(bookId, false, () -> {
+            running.countDown();
+            await(release);
+            return BookStatus.AVAILABLE;
+        }, Function.identity()), executor);
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class,
+                () -> admission.execute(UUID.randomUUID(), false, () -> BookStatus.AVAILABLE, Function.identity()));
+        assertEquals(1, registry.get("library.admission.rejected").counter().count());
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertEquals(BookStatus.AVAILABLE,
+                admission.execute(UUID.randomUUID(), false, () -> BookStatus.AVAILABLE, Function.identity()));
+    }
+
+    /** A borrow that finds the book already borrowed in the database. */
+    private CompletableFuture<BookStatus> borrow(BookAdmission admission, AtomicInteger calls) {
+        return CompletableFuture.supplyAsync(() -> admission.execute(bookId, true, () -> {
+            calls.incrementAndGet();
+            throw new BookAlreadyBorrowedException("already borrowed");
+        }, Function.identity()), executor);
+    }
+
+    private void awaitWaiting(int count) {
+        while (registry.get("library.admission.waiting").gauge().value() < count) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.library.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Might Contain - No False Negatives")
+    void mightContain_NoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("978-" + i);
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("978-" + i));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    @DisplayName("Might Contain - False Positive Rate Near Target")
+    void mightContain_FalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("member-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 2_000, "observed false positives: " + falsePositives);
+        assertTrue(filter.estimatedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    @DisplayName("Create - Rejects Invalid Sizing")
+    void create_InvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
@@ -0,0 +1,141 @@
+package com.library.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.datasource.PrimaryReads;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.CacheStatsResponse;
+import com.library.event.BookStatusChangedEvent;
+import com.library.exception.BookNotFoundException;
+import com.library.model.BookStatus;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonResponseCacheTest {
+
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 100, Duration.ofMinutes(5));
+
+    @Test
+    @DisplayName("Get Book - Serializes Once And Serves Bytes From Cache")
+    void getBook_CachesSerializedBytes() {
+        // Given
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+        BookResponse response = BookResponse.builder().id(id).status(BookStatus.AVAILABLE).build();
+        ResourceVersion version = new ResourceVersion(4L, 1_000L);
+
+        // When
+        Versioned<byte[]> first = cache.getBook(id, () -> {
+            loads.incrementAndGet();
+            return new Versioned<>(response, version);
+        });
+        Versioned<byte[]> second = cache.getBook(id, () -> {
+            loads.incrementAndGet();
+            return new Versioned<>(response, version);
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals(version, first.version());
+        assertTrue(new String(first.value(), StandardCharsets.UTF_8).contains("\"status\":\"AVAILABLE\""));
+        CacheStatsResponse stats = cache.stats().get(0);
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    @DisplayName("Get Book - Loads From The Primary")
+    void getBook_LoadsFromPrimary() {
+        // Given
+        UUID id = UUID.randomUUID();
+        AtomicInteger pinnedLoads = new AtomicInteger();
+
+        // When
+        cache.getBook(id, () -> {
+            if (PrimaryReads.isPinned()) {
+                pinnedLoads.incrementAndGet();
+            }
+            return versioned(BookResponse.builder().id(id).status(BookStatus.AVAILABLE).build());
+        });
+
+        // Then
+        assertEquals(1, pinnedLoads.get());
+        assertFalse(PrimaryReads.isPinned());
+    }
+
+    @Test
+    @DisplayName("Get Borrower - Keeps An Existing Pin After Loading")
+    void getBorrower_KeepsExistingPin() {
+        // Given
+        UUID id = UUID.randomUUID();
+        PrimaryReads.pin();
+        try {
+            // When
+            cache.getBorrower(id, () -> versioned(BookResponse.builder().id(id).build()));
+
+            // Then
+            assertTrue(PrimaryReads.isPinned());
+        } finally {
+            PrimaryReads.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("Book Status Changed - Invalidates Entry")
+    void onBookStatusChanged_Invalidates() {
+        // Given
+        UUID id = UUID.randomUUID();
+        cache.getBook(id, () -> versioned(BookResponse.builder().id(id).status(BookStatus.AVAILABLE).build()));
+
+        // When
+        cache.onBookStatusChanged(new BookStatusChangedEvent(id, BookStatus.BORROWED));
+        Versioned<byte[]> reloaded = cache.getBook(id, () -> versioned(BookResponse.builder().id(id).status(BookStatus.BORROWED).build()));
+
+        // Then
+        assertTrue(new String(reloaded.value(), StandardCharsets.UTF_8).contains("\"status\":\"BORROWED\""));
+    }
+
+    @Test
+    @DisplayName("Get Book - Not Found Is Not Cached")
+    void getBook_NotFoundNotCached() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> cache.getBook(id, () -> {
+            throw new BookNotFoundException("Book not found with id: " + id);
+        }));
+        assertEquals(0, cache.stats().get(0).getSize());
+    }
+
+    @Test
+    @DisplayName("Bind To - Exposes Hit And Miss Counters Per Cache")
+    void bindTo_RegistersCacheMetrics() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        UUID id = UUID.randomUUID();
+
+        // When
+        cache.getBook(id, () -> versioned(BookResponse.builder().id(id).build()));
+        cache.getBook(id, () -> versioned(BookResponse.builder().id(id).build()));
+
+        // Then
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "books").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "books").tag("result", "miss").functionCounter().count());
+    }
+
+    private static <T> Versioned<T> versioned(T value) {
+        return new Versioned<>(value, new ResourceVersion(0L, 0L));
+    }
+}
@@ -0,0 +1,95 @@
+package com.library.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource first;
+
+    @Mock
+    private DataSource second;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstConnection;
+
+    @Mock
+    private Connection secondConnection;
+
+    @AfterEach
+    void tearDown() {
+        PrimaryReads.clear();
+    }
+
+    @Test
+    @DisplayName("Get Connection - Alternates Between Replicas")
+    void getConnection_RoundRobin() throws Exception {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(first, second), Duration.ofMinutes(1));
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+
+        // When / Then
+        assertSame(firstConnection, dataSource.getConnection());
+        assertSame(secondConnection, dataSource.getConnection());
+        assertSame(firstConnection, dataSource.getConnection());
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Get Connection - Skips A Failed Replica And Falls Back To Primary")
+    void getConnection_Failover() throws Exception {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(first, second), Duration.ofMinutes(1));
+        when(first.getConnection()).thenThrow(new SQLTransientConnectionException("timeout"));
+        when(second.getConnection()).thenReturn(secondConnection).thenThrow(new SQLTransientConnectionException("timeout"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When / Then
+        assertSame(secondConnection, dataSource.getConnection());
+        assertEquals(1, dataSource.availableReplicas());
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(0, dataSource.availableReplicas());
+        assertSame(primaryConnection, dataSource.getConnection());
+        verify(first, times(1)).getConnection();
+        verify(second, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Get Connection - Pinned Reads Use The Primary")
+    void getConnection_Pinned() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(first), Duration.ofMinutes(1));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        PrimaryReads.pin();
+
+        // When
+        Connection connection = dataSource.getConnection();
+
+        // Then
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(first);
+    }
+}
@@ -0,0 +1,57 @@
+package com.library.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ErrorResponseWriter writer = new ErrorResponseWriter();
+
+    @Test
+    @DisplayName("Write - Produces The ErrorResponse JSON For The Error Code")
+    void write_ProducesErrorResponse() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // When
+        writer.write(response, ErrorCode.BOOK_ALREADY_BORROWED, "Book with ID \"42\" is already borrowed. ✓", "/api/borrowing/borrow");
+
+        // Then
+        assertEquals(409, response.getStatus());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        ErrorResponse body = objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+        assertEquals(409, body.getStatus());
+        assertEquals("LIB_102", body.getErrorCode());
+        assertEquals("Conflict", body.getError());
+        assertEquals("Book with ID \"42\" is already borrowed. ✓", body.getMessage());
+        assertEquals("/api/borrowing/borrow", body.getPath());
+        assertFalse(body.getTimestamp().isBefore(before));
+    }
+
+    @Test
+    @DisplayName("Write - Uses The Default Message When None Is Given")
+    void write_UsesDefaultMessage() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        writer.write(response, ErrorCode.BOOK_CONCURRENCY_ERROR, null, "/api/borrowing/return");
+
+        // Then
+        ErrorResponse body = objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+        assertEquals(ErrorCode.BOOK_CONCURRENCY_ERROR.getMessage(), body.getMessage());
+        assertEquals("LIB_104", body.getErrorCode());
+    }
+}
@@ -0,0 +1,125 @@
+package com.library.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.library.metrics.LibraryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler =
+            new GlobalExceptionHandler(new LibraryMetrics(registry), new ErrorResponseWriter());
+
+    @Test
+    @DisplayName("Handle Global Exception - Unknown Path Is A 404, Not A 500")
+    void handleGlobalException_NoResourceFound() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/nope");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        handler.handleGlobalException(new NoResourceFoundException(HttpMethod.GET, "api/v1/nope"), request, response);
+
+        // Then
+        ErrorResponse body = read(response);
+        assertEquals(404, response.getStatus());
+        assertEquals("LIB_006", body.getErrorCode());
+        assertEquals(1.0, registry.get("library.errors").tag("code", "LIB_006").counter().count());
+        assertEquals(0.0, registry.get("library.errors").tag("code", "LIB_001").counter().count());
+    }
+
+    @Test
+    @DisplayName("Handle Global Exception - Spring Client Errors Keep Their Status")
+    void handleGlobalException_ClientErrors() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/v1/books");
+        MockHttpServletResponse methodResponse = new MockHttpServletResponse();
+        MockHttpServletResponse parameterResponse = new MockHttpServletResponse();
+
+        // When
+        handler.handleGlobalException(new HttpRequestMethodNotSupportedException("DELETE"), request, methodResponse);
+        handler.handleGlobalException(new MissingServletRequestParameterException("borrowerId", "UUID"),
+                request, parameterResponse);
+
+        // Then
+        assertEquals(405, methodResponse.getStatus());
+        assertEquals("LIB_007", read(methodResponse).getErrorCode());
+        assertEquals(400, parameterResponse.getStatus());
+        assertEquals("LIB_002", read(parameterResponse).getErrorCode());
+        assertTrue(read(parameterResponse).getMessage().contains("borrowerId"));
+    }
+
+    @Test
+    @DisplayName("Handle Type Mismatch - Non-UUID Path Variable Is A 400")
+    void handleTypeMismatchException() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books/not-a-uuid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MethodArgumentTypeMismatchException ex = new MethodArgumentTypeMismatchException(
+                "not-a-uuid", UUID.class, "id", null, new IllegalArgumentException("Invalid UUID string"));
+
+        // When
+        handler.handleTypeMismatchException(ex, request, response);
+
+        // Then
+        ErrorResponse body = read(response);
+        assertEquals(400, response.getStatus());
+        assertEquals("LIB_002", body.getErrorCode());
+        assertEquals("Invalid value 'not-a-uuid' for 'id'", body.getMessage());
+    }
+
+    @Test
+    @DisplayName("Handle Concurrency Failure - Counts Version And Lock Conflicts Separately")
+    void handleConcurrencyFailureException_CountsByReason() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/books/1/borrow");
+        MockHttpServletResponse versionResponse = new MockHttpServletResponse();
+        MockHttpServletResponse lockResponse = new MockHttpServletResponse();
+
+        // When
+        handler.handleConcurrencyFailureException(new OptimisticLockingFailureException("stale"), request, versionResponse);
+        handler.handleConcurrencyFailureException(new CannotAcquireLockException("lock timeout"), request, lockResponse);
+
+        // Then
+        assertEquals(409, versionResponse.getStatus());
+        assertEquals(409, lockResponse.getStatus());
+        assertEquals(1.0, registry.get("library.borrow.conflicts").tag("reason", "optimistic_lock").counter().count());
+        assertEquals(1.0, registry.get("library.borrow.conflicts").tag("reason", "lock_conflict").counter().count());
+    }
+
+    @Test
+    @DisplayName("Handle Global Exception - Unexpected Errors Are Still A 500")
+    void handleGlobalException_Unexpected() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        handler.handleGlobalException(new IllegalStateException("boom"), request, response);
+
+        // Then
+        assertEquals(500, response.getStatus());
+        assertEquals("LIB_001", read(response).getErrorCode());
+    }
+
+    private ErrorResponse read(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.library.filter;
+
+import com.library.exception.ErrorResponseWriter;
+import com.library.metrics.LibraryMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private HikariDataSource dataSource;
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(1);
+        registry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(dataSource, new ErrorResponseWriter(), new LibraryMetrics(registry), 1, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Filter - Sheds Requests Beyond Limit With 503")
+    void doFilter_ShedsWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/books"), new MockHttpServletResponse(), blockingChain);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/books"), rejected, (request, response) -> fail("must not run"));
+
+        // Then
+        assertEquals(503, rejected.getStatus());
+        assertTrue(rejected.getContentAsString().contains("LIB_005"));
+        assertEquals(1.0, registry.get("library.errors").tag("code", "LIB_005").counter().count());
+
+        release.countDown();
+        first.join();
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Filter - Actuator Requests Bypass The Limit")
+    void doFilter_ActuatorBypassesLimit() throws Exception {
+        // Given
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/books"), new MockHttpServletResponse(),
+                        (request, response) -> {
+                            inFlight.countDown();
+                            try {
+                                release.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+        assertEquals(0, filter.availablePermits());
+
+        // When
+        MockHttpServletRequest health = new MockHttpServletRequest("GET", "/actuator/health");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CountDownLatch reached = new CountDownLatch(1);
+        filter.doFilter(health, response, (request, res) -> reached.countDown());
+
+        // Then
+        assertEquals(0, reached.getCount());
+        assertEquals(200, response.getStatus());
+
+        release.countDown();
+        first.join();
+    }
+
+    @Test
+    @DisplayName("Filter - Releases Permit When Chain Throws")
+    void doFilter_ReleasesOnFailure() {
+        // Given
+        FilterChain failingChain = (request, response) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/books"), new MockHttpServletResponse(), failingChain));
+        assertEquals(1, filter.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Constructor - Uses Hikari's Default Pool Size When None Is Configured")
+    void constructor_DefaultPoolSize() {
+        // Given
+        try (HikariDataSource unconfigured = new HikariDataSource()) {
+
+            // When
+            ConcurrencyLimitFilter defaultFilter = new ConcurrencyLimitFilter(unconfigured, new ErrorResponseWriter(),
+                    new LibraryMetrics(new SimpleMeterRegistry()), 4, Duration.ofMillis(50));
+
+            // Then
+            assertEquals(40, defaultFilter.availablePermits());
+        }
+    }
+}
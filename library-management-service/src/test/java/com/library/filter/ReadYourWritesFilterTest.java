@@ -0,0 +1,72 @@
+package com.library.filter;
+
+import com.library.datasource.PrimaryReads;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    // SpringApplication installs the same conversion service, which reads "2s" as well as "PT2S"
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(ReadYourWritesFilter.class)
+            .withPropertyValues("library.datasource.replicas.urls=jdbc:postgresql://replica:5432/library_db");
+
+    @Test
+    @DisplayName("Context - Accepts A Simple Duration Window")
+    void context_BindsSimpleDuration() {
+        contextRunner.withPropertyValues("library.datasource.read-your-writes.window=2s").run(context -> {
+            assertNull(context.getStartupFailure());
+            assertNotNull(context.getBean(ReadYourWritesFilter.class));
+        });
+    }
+
+    @Test
+    @DisplayName("Filter - Pins Reads Within The Window After A Write")
+    void doFilter_PinsReadsAfterWrite() throws Exception {
+        // Given
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+        MockHttpServletResponse written = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/books"), written, (request, response) -> { });
+        String cookie = written.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/v1/books");
+        read.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, cookie.substring(cookie.indexOf('=') + 1, cookie.indexOf(';'))));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        // When
+        filter.doFilter(read, new MockHttpServletResponse(), (request, response) -> pinned.set(PrimaryReads.isPinned()));
+
+        // Then
+        assertTrue(pinned.get());
+        assertFalse(PrimaryReads.isPinned());
+    }
+
+    @Test
+    @DisplayName("Filter - A Zero Window Turns It Off")
+    void doFilter_ZeroWindowPassesThrough() throws Exception {
+        // Given
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> assertFalse(PrimaryReads.isPinned());
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/books"), response, chain);
+
+        // Then
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+}
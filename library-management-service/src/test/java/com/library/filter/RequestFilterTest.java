@@ -0,0 +1,104 @@
+package com.library.filter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.library.exception.ErrorResponseWriter;
+import com.library.metrics.LibraryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestFilterTest {
+
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter();
+    private final LibraryMetrics metrics = new LibraryMetrics(new SimpleMeterRegistry());
+
+    private Logger logger;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(RequestFilter.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Filter - Logs Request And Response When Sampled")
+    void doFilter_LogsSampledRequest() throws Exception {
+        // Given
+        RequestFilter filter = new RequestFilter(errorResponseWriter, metrics, 1.0);
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> { });
+
+        // Then
+        assertEquals(List.of(Level.INFO, Level.INFO), levels());
+    }
+
+    @Test
+    @DisplayName("Filter - Skips Successful Requests Outside The Sample")
+    void doFilter_SkipsUnsampledSuccess() throws Exception {
+        // Given
+        RequestFilter filter = new RequestFilter(errorResponseWriter, metrics, 0.0);
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> { });
+
+        // Then
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Filter - Always Logs Error Responses")
+    void doFilter_AlwaysLogsErrors() throws Exception {
+        // Given
+        RequestFilter filter = new RequestFilter(errorResponseWriter, metrics, 0.0);
+        FilterChain notFound = (req, res) -> ((MockHttpServletResponse) res).setStatus(404);
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        // When
+        filter.doFilter(request(), new MockHttpServletResponse(), notFound);
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), failing));
+
+        // Then
+        assertEquals(List.of(Level.WARN, Level.ERROR), levels());
+    }
+
+    @Test
+    @DisplayName("Filter - Rejects Sample Rate Outside 0..1")
+    void constructor_RejectsInvalidSampleRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestFilter(errorResponseWriter, metrics, 1.5));
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/books");
+        request.addHeader("X-Correlation-Id", "test-correlation-id");
+        return request;
+    }
+
+    private List<Level> levels() {
+        return appender.list.stream().map(ILoggingEvent::getLevel).toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.library.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.model.OutboxEvent;
+import com.library.model.OutboxEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Publish - Appends One JSON Line Per Event")
+    void publish_AppendsLines() throws Exception {
+        // Given
+        Path file = directory.resolve("outbox/events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(objectMapper, file);
+        UUID bookId = UUID.randomUUID();
+        OutboxEvent event = OutboxEvent.builder()
+                .id(7L)
+                .eventType(OutboxEventType.BOOK_RETURNED)
+                .aggregateId(bookId)
+                .payload("{\"bookId\" : \"" + bookId + "\", \"version\" : 4}")
+                .createdAt(1000L)
+                .build();
+
+        // When
+        sink.publish(List.of(event));
+        sink.publish(List.of(event));
+        sink.close();
+
+        // Then
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        JsonNode line = objectMapper.readTree(lines.get(0));
+        assertEquals(7L, line.get("id").asLong());
+        assertEquals("BOOK_RETURNED", line.get("type").asText());
+        assertEquals(bookId.toString(), line.get("aggregateId").asText());
+        assertEquals(1000L, line.get("createdAt").asLong());
+        assertEquals(4, line.get("payload").get("version").asInt());
+    }
+}
@@ -0,0 +1,138 @@
+package com.library.outbox;
+
+import com.library.model.OutboxEvent;
+import com.library.model.OutboxEventType;
+import com.library.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRepository, sink, transactionManager, 1, BATCH_SIZE, Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Relay Batch - Publishes Then Deletes The Locked Events")
+    void relayBatch_PublishesAndDeletes() throws Exception {
+        // Given
+        List<OutboxEvent> batch = List.of(event(1L), event(2L));
+        when(outboxRepository.lockNextBatch(BATCH_SIZE)).thenReturn(batch);
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        var inOrder = inOrder(sink, outboxRepository, transactionManager);
+        inOrder.verify(sink).publish(batch);
+        inOrder.verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Relay Batch - Keeps The Events When The Sink Fails")
+    void relayBatch_SinkFailure() throws Exception {
+        // Given
+        List<OutboxEvent> batch = List.of(event(1L));
+        when(outboxRepository.lockNextBatch(BATCH_SIZE)).thenReturn(batch);
+        doThrow(new IOException("disk full")).when(sink).publish(batch);
+
+        // When / Then
+        assertThrows(UncheckedIOException.class, () -> relay.relayBatch());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyIterable());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Relay Batch - Empty Outbox")
+    void relayBatch_Empty() throws Exception {
+        // Given
+        when(outboxRepository.lockNextBatch(BATCH_SIZE)).thenReturn(Collections.emptyList());
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(0, relayed);
+        verify(sink, never()).publish(anyList());
+    }
+
+    @Test
+    @DisplayName("Constructor - Refuses To Start Without An Explicit Sink")
+    void constructor_RequiresConfiguredSink() {
+        // Given
+        StaticListableBeanFactory noSinks = new StaticListableBeanFactory();
+        StaticListableBeanFactory oneSink = new StaticListableBeanFactory();
+        oneSink.addBean("sink", sink);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> relayWith(noSinks, "file"));
+        assertThrows(IllegalStateException.class, () -> relayWith(oneSink, ""));
+    }
+
+    @Test
+    @DisplayName("Constructor - Resolves The Sink By Its Configured Name")
+    void constructor_ResolvesSinkByName() {
+        // Given
+        OutboxSink other = mock(OutboxSink.class);
+        when(sink.name()).thenReturn("broker");
+        when(other.name()).thenReturn("file");
+        StaticListableBeanFactory sinks = new StaticListableBeanFactory();
+        sinks.addBean("sink", sink);
+        sinks.addBean("other", other);
+
+        // When / Then
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> relayWith(sinks, "brokr"));
+        assertTrue(ex.getMessage().contains("'brokr'"));
+        assertDoesNotThrow(() -> relayWith(sinks, "broker"));
+    }
+
+    private OutboxRelay relayWith(StaticListableBeanFactory beanFactory, String sinkName) {
+        return new OutboxRelay(outboxRepository, beanFactory.getBeanProvider(OutboxSink.class), sinkName,
+                transactionManager, 1, BATCH_SIZE, Duration.ofSeconds(1));
+    }
+
+    private static OutboxEvent event(long id) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(OutboxEventType.BOOK_BORROWED)
+                .aggregateId(UUID.randomUUID())
+                .payload("{}")
+                .createdAt(1L)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.library.retry;
+
+import com.library.exception.BookAlreadyBorrowedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ConflictRetryTemplateTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Execute - Retries A Conflict In A New Transaction")
+    void execute_RetriesConflict() {
+        // Given
+        ConflictRetryTemplate template = template(3, Duration.ofSeconds(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = template.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("stale version");
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(2, calls.get());
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        assertEquals(1, registry.get("library.transaction.retries").counter().count());
+        assertEquals(2, registry.get("library.transaction.attempts").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Execute - Rethrows The Conflict After The Last Attempt")
+    void execute_GivesUpAfterMaxAttempts() {
+        // Given
+        ConflictRetryTemplate template = template(3, Duration.ofSeconds(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        // When / Then
+        assertThrows(OptimisticLockingFailureException.class, () -> template.execute(() -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale version");
+        }));
+        assertEquals(3, calls.get());
+        assertEquals(1, registry.get("library.transaction.retries.exhausted").counter().count());
+        assertEquals(0, registry.get("library.transaction.attempts").summary().count());
+    }
+
+    @Test
+    @DisplayName("Execute - Does Not Retry Business Errors")
+    void execute_DoesNotRetryBusinessErrors() {
+        // Given
+        ConflictRetryTemplate template = template(3, Duration.ofSeconds(1));
+        AtomicInteger calls = new AtomicInteger();
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+
+        // When / Then
+        assertThrows(BookAlreadyBorrowedException.class, () -> template.execute(() -> {
+            calls.incrementAndGet();
+            throw new BookAlreadyBorrowedException("already borrowed");
+        }));
+        assertEquals(1, calls.get());
+        verify(transactionManager).rollback(status);
+        assertEquals(0, registry.get("library.transaction.retries").counter().count());
+    }
+
+    private ConflictRetryTemplate template(int maxAttempts, Duration deadline) {
+        return new ConflictRetryTemplate(transactionManager, registry, maxAttempts,
+                Duration.ofMillis(1), Duration.ofMillis(5), deadline);
+    }
+}
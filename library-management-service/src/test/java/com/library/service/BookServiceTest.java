@@ -0,0 +1,460 @@
+package com.library.service;
+
+import com.library.bloom.IsbnFilter;
+import com.library.dto.request.BookRequest;
+import com.library.dto.response.BatchItemStatus;
+import com.library.dto.response.BookBatchResponse;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.PageResponse;
+import com.library.event.BooksRegisteredEvent;
+import com.library.exception.BookNotFoundException;
+import com.library.exception.InvalidBookDataException;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.pagination.KeysetCursor;
+import com.library.pagination.OffsetCursor;
+import com.library.repository.BookRepository;
+import com.library.repository.OutboxRepository;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private LibraryMapper libraryMapper;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IsbnFilter isbnFilter;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private BookService bookService;
+
+    @Test
+    @DisplayName("Register Book - Success")
+    void registerBook_Success() {
+        // Given
+        BookRequest request = new BookRequest();
+        request.setIsbn("1234567890");
+        request.setTitle("Test Book");
+        request.setAuthor("Test Author");
+
+        Book savedBook = new Book();
+        savedBook.setId(UUID.randomUUID());
+        savedBook.setIsbn("1234567890");
+
+        BookResponse response = BookResponse.builder()
+                .id(savedBook.getId())
+                .isbn("1234567890")
+                .build();
+
+        when(bookRepository.insertIfAbsent(eq("1234567890"), eq("Test Book"), eq("Test Author"), anyLong()))
+                .thenReturn(Optional.of(savedBook));
+        when(libraryMapper.toBookResponse(savedBook)).thenReturn(response);
+
+        // When
+        BookResponse result = bookService.registerBook(request);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(savedBook.getId(), result.getId());
+        verify(bookRepository, never()).findByIsbn(anyString());
+        verify(bookRepository, never()).save(any(Book.class));
+        verify(eventPublisher).publishEvent(any(BooksRegisteredEvent.class));
+    }
+
+    @Test
+    @DisplayName("Register Book - Already Exists")
+    void registerBook_AlreadyExists() {
+        // Given
+        BookRequest request = new BookRequest();
+        request.setIsbn("1234567890");
+
+        when(bookRepository.insertIfAbsent(eq("1234567890"), any(), any(), anyLong())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(InvalidBookDataException.class, () -> bookService.registerBook(request));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Register Books - Mixed Batch")
+    void registerBooks_MixedBatch() {
+        // Given
+        BookRequest fresh = new BookRequest("111", "Fresh", "Author");
+        BookRequest existing = new BookRequest("222", "Existing", "Author");
+        BookRequest repeated = new BookRequest("111", "Fresh Again", "Author");
+        BookRequest invalid = new BookRequest("333", "", "Author");
+
+        Book book = new Book();
+        book.setIsbn("111");
+        Book savedBook = new Book();
+        savedBook.setId(UUID.randomUUID());
+        savedBook.setIsbn("111");
+
+        when(isbnFilter.mightContain(anyString())).thenReturn(true);
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of("222"));
+        when(libraryMapper.toBook(fresh)).thenReturn(book);
+        when(bookRepository.saveAll(List.of(book))).thenReturn(List.of(savedBook));
+
+        // When
+        BookBatchResponse result = bookService.registerBooks(List.of(fresh, existing, repeated, invalid));
+
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getDuplicates());
+        assertEquals(1, result.getInvalid());
+        assertEquals(BatchItemStatus.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(savedBook.getId(), result.getResults().get(0).getId());
+        assertEquals(BatchItemStatus.DUPLICATE, result.getResults().get(1).getStatus());
+        assertEquals(BatchItemStatus.DUPLICATE, result.getResults().get(2).getStatus());
+        assertEquals(BatchItemStatus.INVALID, result.getResults().get(3).getStatus());
+        verify(bookRepository, times(1)).findExistingIsbns(anyCollection());
+        verify(bookRepository, never()).findByIsbn(anyString());
+        verify(entityManager).flush();
+        verify(outboxRepository).recordBooksRegistered(List.of(savedBook.getId()));
+        verify(entityManager).clear();
+        verify(eventPublisher).publishEvent(any(BooksRegisteredEvent.class));
+    }
+
+    @Test
+    @DisplayName("Register Books - All Duplicates Skip Insert")
+    void registerBooks_AllDuplicates() {
+        // Given
+        BookRequest request = new BookRequest("222", "Existing", "Author");
+        when(isbnFilter.mightContain("222")).thenReturn(true);
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of("222"));
+
+        // When
+        BookBatchResponse result = bookService.registerBooks(List.of(request));
+
+        // Then
+        assertEquals(0, result.getCreated());
+        assertEquals(1, result.getDuplicates());
+        verify(bookRepository, never()).saveAll(anyList());
+        verify(entityManager, never()).flush();
+        verify(outboxRepository, never()).recordBooksRegistered(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Register Books - Skips Lookup For ISBNs The Filter Rules Out")
+    void registerBooks_FilterSkipsLookup() {
+        // Given
+        BookRequest request = new BookRequest("444", "New", "Author");
+        Book book = new Book();
+        Book savedBook = new Book();
+        savedBook.setId(UUID.randomUUID());
+        savedBook.setIsbn("444");
+        when(isbnFilter.mightContain("444")).thenReturn(false);
+        when(libraryMapper.toBook(request)).thenReturn(book);
+        when(bookRepository.saveAll(List.of(book))).thenReturn(List.of(savedBook));
+
+        // When
+        BookBatchResponse result = bookService.registerBooks(List.of(request));
+
+        // Then
+        assertEquals(1, result.getCreated());
+        verify(bookRepository, never()).findExistingIsbns(anyCollection());
+        verify(isbnFilter, never()).missed();
+    }
+
+    @Test
+    @DisplayName("Register Books - Retries With Full Lookup When The Filter Misses")
+    void registerBooks_FilterMissRetries() {
+        // Given
+        BookRequest request = new BookRequest("555", "Registered Elsewhere", "Author");
+        Book book = new Book();
+        when(isbnFilter.mightContain("555")).thenReturn(false);
+        when(libraryMapper.toBook(request)).thenReturn(book);
+        when(bookRepository.saveAll(List.of(book))).thenThrow(constraintViolation("books_isbn_key"));
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(List.of("555"));
+
+        // When
+        BookBatchResponse result = bookService.registerBooks(List.of(request));
+
+        // Then
+        assertEquals(0, result.getCreated());
+        assertEquals(BatchItemStatus.DUPLICATE, result.getResults().get(0).getStatus());
+        verify(isbnFilter).missed();
+        verify(isbnFilter).addAll(Set.of("555"));
+        verify(bookRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Register Books - Other Integrity Violations Are Not Retried")
+    void registerBooks_OtherViolationSurfaces() {
+        // Given
+        BookRequest request = new BookRequest("666", "Broken", "Author");
+        Book book = new Book();
+        when(isbnFilter.mightContain("666")).thenReturn(false);
+        when(libraryMapper.toBook(request)).thenReturn(book);
+        when(bookRepository.saveAll(List.of(book))).thenThrow(constraintViolation("books_pkey"));
+
+        // When & Then
+        assertThrows(DataIntegrityViolationException.class, () -> bookService.registerBooks(List.of(request)));
+        verify(isbnFilter, never()).missed();
+        verify(bookRepository, times(1)).saveAll(anyList());
+        verify(bookRepository, never()).findExistingIsbns(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Register Books - Empty Or Oversized Batch")
+    void registerBooks_InvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> bookService.registerBooks(List.of()));
+        List<BookRequest> oversized = Collections.nCopies(BookService.MAX_BATCH_SIZE + 1, new BookRequest("1", "T", "A"));
+        assertThrows(IllegalArgumentException.class, () -> bookService.registerBooks(oversized));
+    }
+
+    @Test
+    @DisplayName("Get All Books - First Page")
+    void getAllBooks_FirstPage() {
+        // Given
+        Book book = new Book();
+        book.setId(UUID.randomUUID());
+        book.setCreatedAt(1L);
+        BookResponse response = BookResponse.builder().build();
+
+        when(bookRepository.findFirstPage(21)).thenReturn(List.of(book));
+        when(libraryMapper.toBookResponse(book)).thenReturn(response);
+
+        // When
+        PageResponse<BookResponse> result = bookService.getAllBooks(null, null).value();
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNext());
+        verify(bookRepository).findFirstPage(21);
+    }
+
+    @Test
+    @DisplayName("Get All Books - Has Next Page")
+    void getAllBooks_HasNextPage() {
+        // Given
+        Book first = new Book();
+        first.setId(UUID.randomUUID());
+        first.setCreatedAt(1L);
+        Book second = new Book();
+        second.setId(UUID.randomUUID());
+        second.setCreatedAt(2L);
+
+        when(bookRepository.findFirstPage(2)).thenReturn(List.of(first, second));
+        when(libraryMapper.toBookResponse(first)).thenReturn(BookResponse.builder().build());
+
+        // When
+        PageResponse<BookResponse> result = bookService.getAllBooks(null, 1).value();
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        KeysetCursor next = KeysetCursor.decode(result.getNext());
+        assertEquals(1L, next.getPosition());
+        assertEquals(first.getId(), next.getId());
+    }
+
+    @Test
+    @DisplayName("Get All Books - Seeks After Cursor")
+    void getAllBooks_AfterCursor() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        String cursor = new KeysetCursor(5L, lastId).encode();
+        when(bookRepository.findPageAfter(5L, lastId, 11)).thenReturn(Collections.emptyList());
+
+        // When
+        PageResponse<BookResponse> result = bookService.getAllBooks(cursor, 10).value();
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNext());
+        verify(bookRepository, never()).findFirstPage(anyInt());
+    }
+
+    @Test
+    @DisplayName("Get All Books - Invalid Cursor")
+    void getAllBooks_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> bookService.getAllBooks("not-a-cursor", 10));
+    }
+
+    @Test
+    @DisplayName("Get All Books - Limit Out Of Range")
+    void getAllBooks_LimitOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> bookService.getAllBooks(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> bookService.getAllBooks(null, KeysetCursor.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Search Books - Next Page Continues At Offset")
+    void searchBooks_NextPage() {
+        // Given
+        Book first = new Book();
+        first.setIsbn("1");
+        Book second = new Book();
+        second.setIsbn("2");
+        when(bookRepository.search("tolkien", 2, 0)).thenReturn(List.of(first, second));
+        when(libraryMapper.toBookResponse(first)).thenReturn(BookResponse.builder().isbn("1").build());
+
+        // When
+        PageResponse<BookResponse> result = bookService.searchBooks("tolkien", null, 1);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertEquals(1, OffsetCursor.decode(result.getNext()));
+    }
+
+    @Test
+    @DisplayName("Search Books - Last Page")
+    void searchBooks_LastPage() {
+        // Given
+        String cursor = OffsetCursor.encode(20);
+        when(bookRepository.search("tolkien", 21, 20)).thenReturn(Collections.emptyList());
+
+        // When
+        PageResponse<BookResponse> result = bookService.searchBooks("tolkien", cursor, null);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    @DisplayName("Search Books - Blank Query")
+    void searchBooks_BlankQuery() {
+        assertThrows(IllegalArgumentException.class, () -> bookService.searchBooks(" ", null, null));
+        verify(bookRepository, never()).search(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Get Book By ID - Success")
+    void getBookById_Success() {
+        // Given
+        UUID id = UUID.randomUUID();
+        Book book = new Book();
+        book.setId(id);
+        book.setVersion(3L);
+        book.setUpdatedAt(1_000L);
+        BookResponse response = BookResponse.builder().id(id).build();
+
+        when(bookRepository.findById(id)).thenReturn(Optional.of(book));
+        when(libraryMapper.toBookResponse(book)).thenReturn(response);
+
+        // When
+        Versioned<BookResponse> result = bookService.getBookById(id);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(id, result.value().getId());
+        assertEquals(new ResourceVersion(3L, 1_000L), result.version());
+        verify(bookRepository).findById(id);
+    }
+
+    @Test
+    @DisplayName("Get Book By ID - Not Found")
+    void getBookById_NotFound() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(bookRepository.findById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookById(id));
+    }
+
+    @Test
+    @DisplayName("Get All Books - Page ETag Follows Row Versions")
+    void getAllBooks_ETagFollowsRowVersions() {
+        // Given
+        Book book = new Book();
+        book.setId(UUID.randomUUID());
+        book.setCreatedAt(1L);
+        book.setVersion(1L);
+        when(bookRepository.findFirstPage(21)).thenReturn(List.of(book));
+        String before = bookService.getAllBooks(null, null).version().eTag();
+
+        // When
+        book.setVersion(2L);
+        String after = bookService.getAllBooks(null, null).version().eTag();
+
+        // Then
+        assertNotEquals(before, after);
+        assertEquals(after, bookService.getAllBooks(null, null).version().eTag());
+    }
+
+    @Test
+    @DisplayName("Get Book Version - Reads Projection Only")
+    void getBookVersion_Success() {
+        // Given
+        UUID id = UUID.randomUUID();
+        ResourceVersion version = new ResourceVersion(7L, 2_000L);
+        when(bookRepository.findVersionById(id)).thenReturn(Optional.of(version));
+
+        // When
+        ResourceVersion result = bookService.getBookVersion(id);
+
+        // Then
+        assertEquals(version, result);
+        assertTrue(result.matches("W/\"7\", \"8\""));
+        assertFalse(result.matches("\"6\""));
+        verify(bookRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Get Book Version - Not Found")
+    void getBookVersion_NotFound() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(bookRepository.findVersionById(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookVersion(id));
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraint) {
+        return new DataIntegrityViolationException("could not execute batch",
+                new ConstraintViolationException("duplicate key value violates unique constraint",
+                        new SQLException("duplicate key", "23505"), constraint));
+    }
+}
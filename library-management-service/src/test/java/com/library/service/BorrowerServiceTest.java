@@ -2,8 +2,11 @@ package com.library.service;
 
 import com.library.dto.request.BorrowerRequest;
 import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.PageResponse;
+import com.library.event.BorrowerRegisteredEvent;
 import com.library.mapper.LibraryMapper;
 import com.library.model.Borrower;
+import com.library.pagination.KeysetCursor;
 import com.library.repository.BorrowerRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -30,6 +34,9 @@ class BorrowerServiceTest {
     @Mock
     private LibraryMapper libraryMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BorrowerService borrowerService;
 
@@ -41,9 +48,6 @@ class BorrowerServiceTest {
         request.setEmail("test@example.com");
         request.setName("Test User");
 
-        Borrower borrower = new Borrower();
-        borrower.setEmail("test@example.com");
-
         Borrower savedBorrower = new Borrower();
         savedBorrower.setId(UUID.randomUUID());
         savedBorrower.setEmail("test@example.com");
@@ -53,9 +57,8 @@ class BorrowerServiceTest {
                 .email("test@example.com")
                 .build();
 
-        when(borrowerRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
-        when(libraryMapper.toBorrower(request)).thenReturn(borrower);
-        when(borrowerRepository.save(borrower)).thenReturn(savedBorrower);
+        when(borrowerRepository.insertIfAbsent(eq("Test User"), eq("test@example.com"), anyLong()))
+                .thenReturn(Optional.of(savedBorrower));
         when(libraryMapper.toBorrowerResponse(savedBorrower)).thenReturn(response);
 
         // When
@@ -64,8 +67,8 @@ class BorrowerServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(savedBorrower.getId(), result.getId());
-        verify(borrowerRepository).findByEmail("test@example.com");
-        verify(borrowerRepository).save(borrower);
+        verify(borrowerRepository, never()).findByEmail(anyString());
+        verify(eventPublisher).publishEvent(any(BorrowerRegisteredEvent.class));
     }
 
     @Test
@@ -75,44 +78,51 @@ class BorrowerServiceTest {
         BorrowerRequest request = new BorrowerRequest();
         request.setEmail("test@example.com");
 
-        when(borrowerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(new Borrower()));
+        when(borrowerRepository.insertIfAbsent(any(), eq("test@example.com"), anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(IllegalArgumentException.class, () -> borrowerService.registerBorrower(request));
         verify(borrowerRepository, never()).save(any(Borrower.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("Get All Borrowers - Success")
-    void getAllBorrowers_Success() {
+    @DisplayName("Get All Borrowers - First Page")
+    void getAllBorrowers_FirstPage() {
         // Given
         Borrower borrower = new Borrower();
+        borrower.setId(UUID.randomUUID());
+        borrower.setCreatedAt(1L);
         BorrowerResponse response = BorrowerResponse.builder().build();
 
-        when(borrowerRepository.findAll()).thenReturn(List.of(borrower));
+        when(borrowerRepository.findFirstPage(21)).thenReturn(List.of(borrower));
         when(libraryMapper.toBorrowerResponse(borrower)).thenReturn(response);
 
         // When
-        List<BorrowerResponse> result = borrowerService.getAllBorrowers();
+        PageResponse<BorrowerResponse> result = borrowerService.getAllBorrowers(null, null).value();
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(borrowerRepository).findAll();
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNext());
+        verify(borrowerRepository).findFirstPage(21);
     }
 
     @Test
-    @DisplayName("Get All Borrowers - Empty")
-    void getAllBorrowers_Empty() {
+    @DisplayName("Get All Borrowers - Seeks After Cursor")
+    void getAllBorrowers_AfterCursor() {
         // Given
-        when(borrowerRepository.findAll()).thenReturn(Collections.emptyList());
+        UUID lastId = UUID.randomUUID();
+        String cursor = new KeysetCursor(5L, lastId).encode();
+        when(borrowerRepository.findPageAfter(5L, lastId, 11)).thenReturn(Collections.emptyList());
 
         // When
-        List<BorrowerResponse> result = borrowerService.getAllBorrowers();
+        PageResponse<BorrowerResponse> result = borrowerService.getAllBorrowers(cursor, 10).value();
 
         // Then
         assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNext());
     }
 
     @Test
@@ -128,7 +138,7 @@ class BorrowerServiceTest {
         when(libraryMapper.toBorrowerResponse(borrower)).thenReturn(response);
 
         // When
-        BorrowerResponse result = borrowerService.getBorrowerById(id);
+        BorrowerResponse result = borrowerService.getBorrowerById(id).value();
 
         // Then
         assertNotNull(result);
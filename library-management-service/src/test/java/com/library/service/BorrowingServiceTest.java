@@ -0,0 +1,394 @@
+package com.library.service;
+
+import com.library.admission.BookAdmission;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.ReservationResponse;
+import com.library.dto.response.ReservationStatus;
+import com.library.event.BookStatusChangedEvent;
+import com.library.exception.BookAlreadyBorrowedException;
+import com.library.exception.BookAlreadyReservedException;
+import com.library.exception.BookNotFoundException;
+import com.library.exception.ErrorCode;
+import com.library.mapper.LibraryMapper;
+import com.library.metrics.LibraryMetrics;
+import com.library.model.Book;
+import com.library.model.BookStatus;
+import com.library.model.Reservation;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import com.library.repository.ReservationRepository;
+import com.library.retry.ConflictRetryTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BorrowingServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private LibraryMapper libraryMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private LibraryMetrics metrics = new LibraryMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private ConflictRetryTemplate conflictRetry = new ConflictRetryTemplate(mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 3, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1));
+
+    @Spy
+    private BookAdmission admission = new BookAdmission(new SimpleMeterRegistry(), true, 100, Duration.ofSeconds(1));
+
+    @InjectMocks
+    private BorrowingService borrowingService;
+
+    @Test
+    @DisplayName("Borrow Book - Success")
+    void borrowBook_Success() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+
+        Book borrowedBook = new Book();
+        borrowedBook.setId(bookId);
+        borrowedBook.setStatus(BookStatus.BORROWED);
+
+        BookResponse response = BookResponse.builder()
+                .id(bookId)
+                .status(BookStatus.BORROWED)
+                .build();
+
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.of(borrowedBook));
+        when(libraryMapper.toBookResponse(borrowedBook)).thenReturn(response);
+
+        // When
+        BookResponse result = borrowingService.borrowBook(bookId, borrowerId);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BookStatus.BORROWED, result.getStatus());
+        verify(bookRepository, never()).findById(any(UUID.class));
+        verify(borrowerRepository, never()).existsById(any(UUID.class));
+        verify(bookRepository, never()).save(any(Book.class));
+        verify(eventPublisher).publishEvent(any(BookStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Borrow Book - Retries A Deadlocked Transaction")
+    void borrowBook_RetriesConflict() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+        Book borrowedBook = new Book();
+        borrowedBook.setId(bookId);
+        borrowedBook.setStatus(BookStatus.BORROWED);
+
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong()))
+                .thenThrow(new CannotAcquireLockException("deadlock detected"))
+                .thenReturn(Optional.of(borrowedBook));
+        when(libraryMapper.toBookResponse(borrowedBook)).thenReturn(BookResponse.builder().id(bookId).build());
+
+        // When
+        BookResponse result = borrowingService.borrowBook(bookId, borrowerId);
+
+        // Then
+        assertEquals(bookId, result.getId());
+        verify(bookRepository, times(2)).borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong());
+        verify(eventPublisher).publishEvent(any(BookStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Borrow Book - Releases The Admission While Backing Off")
+    void borrowBook_ReleasesAdmissionBetweenAttempts() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BorrowingService service = new BorrowingService(bookRepository, borrowerRepository, reservationRepository,
+                libraryMapper, eventPublisher, metrics,
+                new ConflictRetryTemplate(mock(PlatformTransactionManager.class), registry,
+                        3, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(10)),
+                new BookAdmission(registry, true, 100, Duration.ofMillis(500)));
+        UUID bookId = UUID.randomUUID();
+        UUID retrying = UUID.randomUUID();
+        UUID queued = UUID.randomUUID();
+        CountDownLatch firstAttempt = new CountDownLatch(1);
+        CountDownLatch conflict = new CountDownLatch(1);
+        CountDownLatch queuedDone = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(retrying), anyLong())).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                firstAttempt.countDown();
+                conflict.await(5, TimeUnit.SECONDS);
+                throw new CannotAcquireLockException("deadlock detected");
+            }
+            queuedDone.await(5, TimeUnit.SECONDS);
+            return Optional.of(new Book());
+        });
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(queued), anyLong())).thenReturn(Optional.of(new Book()));
+        when(libraryMapper.toBookResponse(any(Book.class))).thenReturn(BookResponse.builder().build());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<BookResponse> retried = executor.submit(() -> service.borrowBook(bookId, retrying));
+            assertTrue(firstAttempt.await(5, TimeUnit.SECONDS));
+            Future<BookResponse> waiting = executor.submit(() -> service.borrowBook(bookId, queued));
+            while (registry.get("library.admission.waiting").gauge().value() < 1) {
+                Thread.sleep(1);
+            }
+
+            // When: the first attempt conflicts while another borrow of the book is queued behind it
+            conflict.countDown();
+
+            // Then: the queued borrow is admitted during the backoff, not after the retry
+            assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+            queuedDone.countDown();
+            assertNotNull(retried.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Borrow Book - Borrower Not Found")
+    void borrowBook_BorrowerNotFound() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.empty());
+        when(borrowerRepository.existsById(borrowerId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> borrowingService.borrowBook(bookId, borrowerId));
+        verify(bookRepository, never()).existsById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Borrow Book - Book Not Found")
+    void borrowBook_BookNotFound() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.empty());
+        when(borrowerRepository.existsById(borrowerId)).thenReturn(true);
+        when(bookRepository.existsById(bookId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> borrowingService.borrowBook(bookId, borrowerId));
+    }
+
+    @Test
+    @DisplayName("Borrow Book - Already Borrowed")
+    void borrowBook_AlreadyBorrowed() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.empty());
+        when(borrowerRepository.existsById(borrowerId)).thenReturn(true);
+        when(bookRepository.existsById(bookId)).thenReturn(true);
+
+        // When & Then
+        BookAlreadyBorrowedException ex = assertThrows(BookAlreadyBorrowedException.class,
+                () -> borrowingService.borrowBook(bookId, borrowerId));
+        assertEquals(ErrorCode.BOOK_ALREADY_BORROWED, ex.getErrorCode());
+        assertEquals(0, ex.getStackTrace().length);
+        verify(bookRepository, never()).save(any(Book.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(metrics).borrowConflict();
+    }
+
+    @Test
+    @DisplayName("Return Book - Success")
+    void returnBook_Success() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        Book returnedBook = new Book();
+        returnedBook.setId(bookId);
+        returnedBook.setStatus(BookStatus.AVAILABLE);
+
+        BookResponse response = BookResponse.builder()
+                .id(bookId)
+                .status(BookStatus.AVAILABLE)
+                .build();
+
+        when(bookRepository.returnIfBorrowed(eq(bookId), anyLong())).thenReturn(Optional.of(returnedBook));
+        when(libraryMapper.toBookResponse(returnedBook)).thenReturn(response);
+
+        // When
+        BookResponse result = borrowingService.returnBook(bookId);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BookStatus.AVAILABLE, result.getStatus());
+        verify(bookRepository, never()).findById(any(UUID.class));
+        verify(reservationRepository, never()).handOff(any(UUID.class), anyLong(), anyLong());
+        verify(eventPublisher).publishEvent(any(BookStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Return Book - Hands The Book To The Head Of The Queue")
+    void returnBook_HandsOffToReservation() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        Book keptBook = new Book();
+        keptBook.setId(bookId);
+        keptBook.setStatus(BookStatus.BORROWED);
+        keptBook.setVersion(7L);
+        Reservation head = Reservation.builder().id(1L).bookId(bookId).borrowerId(UUID.randomUUID()).build();
+
+        BookResponse response = BookResponse.builder()
+                .id(bookId)
+                .status(BookStatus.BORROWED)
+                .build();
+
+        when(bookRepository.returnIfBorrowed(eq(bookId), anyLong())).thenReturn(Optional.of(keptBook));
+        when(reservationRepository.handOff(eq(bookId), eq(7L), anyLong())).thenReturn(Optional.of(head));
+        when(libraryMapper.toBookResponse(keptBook)).thenReturn(response);
+
+        // When
+        BookResponse result = borrowingService.returnBook(bookId);
+
+        // Then
+        assertEquals(BookStatus.BORROWED, result.getStatus());
+        verify(metrics).reservationHandedOff();
+        verify(eventPublisher).publishEvent(any(BookStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Return Book - Already Available")
+    void returnBook_AlreadyAvailable() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        Book book = new Book();
+        book.setId(bookId);
+        book.setStatus(BookStatus.AVAILABLE);
+
+        BookResponse response = BookResponse.builder()
+                .id(bookId)
+                .status(BookStatus.AVAILABLE)
+                .build();
+
+        when(bookRepository.returnIfBorrowed(eq(bookId), anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+        when(libraryMapper.toBookResponse(book)).thenReturn(response);
+
+        // When
+        BookResponse result = borrowingService.returnBook(bookId);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(BookStatus.AVAILABLE, result.getStatus());
+        verify(bookRepository, never()).save(any(Book.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Return Book - Not Found")
+    void returnBook_NotFound() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        when(bookRepository.returnIfBorrowed(eq(bookId), anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.findById(bookId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> borrowingService.returnBook(bookId));
+    }
+
+    @Test
+    @DisplayName("Reserve Book - Queued Behind The Current Borrower")
+    void reserveBook_Queued() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+        Book heldBook = new Book();
+        heldBook.setId(bookId);
+        heldBook.setStatus(BookStatus.BORROWED);
+        heldBook.setReservationCount(2);
+
+        when(bookRepository.reserveIfBorrowed(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.of(heldBook));
+
+        // When
+        ReservationResponse result = borrowingService.reserveBook(bookId, borrowerId);
+
+        // Then
+        assertEquals(ReservationStatus.QUEUED, result.getStatus());
+        assertEquals(2, result.getPosition());
+        verify(bookRepository, never()).borrowIfAvailable(any(UUID.class), any(UUID.class), anyLong());
+        verify(metrics).reservationQueued();
+    }
+
+    @Test
+    @DisplayName("Reserve Book - Borrows An Available Book Right Away")
+    void reserveBook_BorrowsAvailableBook() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+        Book borrowedBook = new Book();
+        borrowedBook.setId(bookId);
+        borrowedBook.setStatus(BookStatus.BORROWED);
+
+        when(bookRepository.reserveIfBorrowed(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.of(borrowedBook));
+
+        // When
+        ReservationResponse result = borrowingService.reserveBook(bookId, borrowerId);
+
+        // Then
+        assertEquals(ReservationStatus.BORROWED, result.getStatus());
+        assertEquals(0, result.getPosition());
+        verify(eventPublisher).publishEvent(any(BookStatusChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Reserve Book - Already Reserved By The Borrower")
+    void reserveBook_AlreadyReserved() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        UUID borrowerId = UUID.randomUUID();
+
+        when(bookRepository.reserveIfBorrowed(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.borrowIfAvailable(eq(bookId), eq(borrowerId), anyLong())).thenReturn(Optional.empty());
+        when(borrowerRepository.existsById(borrowerId)).thenReturn(true);
+        when(bookRepository.existsById(bookId)).thenReturn(true);
+        when(reservationRepository.isHeldOrReservedBy(bookId, borrowerId)).thenReturn(true);
+
+        // When & Then
+        BookAlreadyReservedException ex = assertThrows(BookAlreadyReservedException.class,
+                () -> borrowingService.reserveBook(bookId, borrowerId));
+        assertEquals(ErrorCode.BOOK_ALREADY_RESERVED, ex.getErrorCode());
+        verify(bookRepository, times(1)).reserveIfBorrowed(eq(bookId), eq(borrowerId), anyLong());
+    }
+}
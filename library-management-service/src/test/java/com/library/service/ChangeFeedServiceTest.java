@@ -0,0 +1,121 @@
+package com.library.service;
+
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.ChangesResponse;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.model.Borrower;
+import com.library.pagination.KeysetCursor;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedServiceTest {
+
+    private static final Duration SETTLE_TIME = Duration.ofSeconds(5);
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private LibraryMapper libraryMapper;
+
+    private ChangeFeedService changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new ChangeFeedService(bookRepository, borrowerRepository, libraryMapper, SETTLE_TIME);
+    }
+
+    @Test
+    @DisplayName("Get Book Changes - First Batch Holds Back Unsettled Rows")
+    void getBookChanges_FirstBatch() {
+        // Given
+        Book first = Book.builder().id(UUID.randomUUID()).build();
+        first.setUpdatedAt(10L);
+        Book second = Book.builder().id(UUID.randomUUID()).build();
+        second.setUpdatedAt(20L);
+        long latestHorizon = System.currentTimeMillis() - SETTLE_TIME.toMillis();
+
+        when(bookRepository.findChangesFirstPage(anyLong(), eq(2))).thenReturn(List.of(first, second));
+        when(libraryMapper.toBookResponse(first)).thenReturn(BookResponse.builder().id(first.getId()).build());
+
+        // When
+        ChangesResponse<BookResponse> result = changeFeedService.getBookChanges(null, 1);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertTrue(result.isHasMore());
+        KeysetCursor next = KeysetCursor.decode(result.getNext());
+        assertEquals(10L, next.getPosition());
+        assertEquals(first.getId(), next.getId());
+        verify(bookRepository).findChangesFirstPage(longThat(horizon -> horizon >= latestHorizon
+                && horizon <= System.currentTimeMillis() - SETTLE_TIME.toMillis()), eq(2));
+    }
+
+    @Test
+    @DisplayName("Get Book Changes - Empty Batch Keeps The Cursor")
+    void getBookChanges_NothingNew() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        String since = new KeysetCursor(30L, lastId).encode();
+        when(bookRepository.findChangesAfter(eq(30L), eq(lastId), anyLong(), eq(21))).thenReturn(Collections.emptyList());
+
+        // When
+        ChangesResponse<BookResponse> result = changeFeedService.getBookChanges(since, null);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertFalse(result.isHasMore());
+        assertEquals(since, result.getNext());
+        verify(bookRepository, never()).findChangesFirstPage(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Get Borrower Changes - Seeks After Cursor")
+    void getBorrowerChanges_AfterCursor() {
+        // Given
+        UUID lastId = UUID.randomUUID();
+        Borrower changed = Borrower.builder().id(UUID.randomUUID()).build();
+        changed.setUpdatedAt(40L);
+        when(borrowerRepository.findChangesAfter(eq(30L), eq(lastId), anyLong(), eq(11))).thenReturn(List.of(changed));
+        when(libraryMapper.toBorrowerResponse(changed)).thenReturn(BorrowerResponse.builder().id(changed.getId()).build());
+
+        // When
+        ChangesResponse<BorrowerResponse> result =
+                changeFeedService.getBorrowerChanges(new KeysetCursor(30L, lastId).encode(), 10);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertEquals(new KeysetCursor(40L, changed.getId()).encode(), result.getNext());
+    }
+
+    @Test
+    @DisplayName("Get Book Changes - Invalid Cursor")
+    void getBookChanges_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> changeFeedService.getBookChanges("not-a-cursor", 10));
+    }
+}
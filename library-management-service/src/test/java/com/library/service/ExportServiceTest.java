@@ -0,0 +1,115 @@
+package com.library.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BorrowerResponse;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.model.BookStatus;
+import com.library.model.Borrower;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private LibraryMapper libraryMapper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ExportService exportService;
+
+    @Test
+    @DisplayName("Export Books - One JSON Document Per Line")
+    void exportBooks_WritesNdjson() throws Exception {
+        // Given
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        Book first = new Book();
+        first.setId(firstId);
+        Book second = new Book();
+        second.setId(secondId);
+
+        when(bookRepository.streamAll()).thenReturn(Stream.of(first, second));
+        when(libraryMapper.toBookResponse(first)).thenReturn(
+                BookResponse.builder().id(firstId).isbn("1").status(BookStatus.AVAILABLE).build());
+        when(libraryMapper.toBookResponse(second)).thenReturn(
+                BookResponse.builder().id(secondId).isbn("2").status(BookStatus.BORROWED).build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportBooks(out);
+
+        // Then
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals(firstId, objectMapper.readValue(lines[0], BookResponse.class).getId());
+        assertEquals(BookStatus.BORROWED, objectMapper.readValue(lines[1], BookResponse.class).getStatus());
+        assertEquals("", lines[2]);
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("Export Borrowers - Empty Table")
+    void exportBorrowers_Empty() throws Exception {
+        // Given
+        when(borrowerRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportBorrowers(out);
+
+        // Then
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+        verify(libraryMapper, never()).toBorrowerResponse(any(Borrower.class));
+    }
+
+    @Test
+    @DisplayName("Export Borrowers - Detaches Each Row")
+    void exportBorrowers_DetachesRows() throws Exception {
+        // Given
+        Borrower borrower = new Borrower();
+        when(borrowerRepository.streamAll()).thenReturn(Stream.of(borrower));
+        when(libraryMapper.toBorrowerResponse(borrower)).thenReturn(
+                BorrowerResponse.builder().email("a@example.com").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.exportBorrowers(out);
+
+        // Then
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("\"email\":\"a@example.com\""));
+        verify(entityManager).detach(borrower);
+    }
+}
@@ -0,0 +1,109 @@
+package com.library.service;
+
+import com.library.dto.response.LoanResponse;
+import com.library.dto.response.PageResponse;
+import com.library.exception.BookNotFoundException;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Loan;
+import com.library.pagination.KeysetCursor;
+import com.library.repository.BookRepository;
+import com.library.repository.BorrowerRepository;
+import com.library.repository.LoanRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private LibraryMapper libraryMapper;
+
+    @InjectMocks
+    private LoanService loanService;
+
+    @Test
+    @DisplayName("Get Book Loans - Has Next Page")
+    void getBookLoans_HasNextPage() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        Loan newest = Loan.builder().id(UUID.randomUUID()).bookId(bookId).borrowedAt(20L).build();
+        Loan older = Loan.builder().id(UUID.randomUUID()).bookId(bookId).borrowedAt(10L).build();
+
+        when(loanRepository.findByBookFirstPage(bookId, 2)).thenReturn(List.of(newest, older));
+        when(libraryMapper.toLoanResponse(newest)).thenReturn(LoanResponse.builder().id(newest.getId()).build());
+
+        // When
+        PageResponse<LoanResponse> result = loanService.getBookLoans(bookId, null, 1);
+
+        // Then
+        assertEquals(1, result.getItems().size());
+        KeysetCursor next = KeysetCursor.decode(result.getNext());
+        assertEquals(20L, next.getPosition());
+        assertEquals(newest.getId(), next.getId());
+        verify(bookRepository, never()).existsById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Get Book Loans - Book Not Found")
+    void getBookLoans_BookNotFound() {
+        // Given
+        UUID bookId = UUID.randomUUID();
+        when(loanRepository.findByBookFirstPage(bookId, 21)).thenReturn(Collections.emptyList());
+        when(bookRepository.existsById(bookId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> loanService.getBookLoans(bookId, null, null));
+    }
+
+    @Test
+    @DisplayName("Get Borrower Loans - Open Only After Cursor")
+    void getBorrowerLoans_OpenAfterCursor() {
+        // Given
+        UUID borrowerId = UUID.randomUUID();
+        UUID lastId = UUID.randomUUID();
+        String cursor = new KeysetCursor(30L, lastId).encode();
+        when(loanRepository.findOpenByBorrowerPageAfter(borrowerId, 30L, lastId, 11)).thenReturn(Collections.emptyList());
+
+        // When
+        PageResponse<LoanResponse> result = loanService.getBorrowerLoans(borrowerId, true, cursor, 10);
+
+        // Then
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNext());
+        verify(loanRepository, never()).findByBorrowerPageAfter(any(UUID.class), anyLong(), any(UUID.class), anyInt());
+        verify(borrowerRepository, never()).existsById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Get Borrower Loans - Borrower Not Found")
+    void getBorrowerLoans_BorrowerNotFound() {
+        // Given
+        UUID borrowerId = UUID.randomUUID();
+        when(loanRepository.findByBorrowerFirstPage(borrowerId, 21)).thenReturn(Collections.emptyList());
+        when(borrowerRepository.existsById(borrowerId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> loanService.getBorrowerLoans(borrowerId, false, null, null));
+    }
+}
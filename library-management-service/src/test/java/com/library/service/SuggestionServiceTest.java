@@ -0,0 +1,177 @@
+package com.library.service;
+
+import com.library.dto.response.BookSuggestion;
+import com.library.event.BooksRegisteredEvent;
+import com.library.model.Book;
+import com.library.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private final List<Runnable> merges = new ArrayList<>();
+    private SuggestionService suggestionService;
+
+    @BeforeEach
+    void setUp() {
+        suggestionService = new SuggestionService(bookRepository, merges::add);
+    }
+
+    @Test
+    @DisplayName("Suggest - Matches Title And Author Prefixes")
+    void suggest_MatchesPrefixes() {
+        // Given
+        BookSuggestion hobbit = suggestion("The Hobbit", "J. R. R. Tolkien");
+        BookSuggestion rings = suggestion("The Lord of the Rings", "J. R. R. Tolkien");
+        BookSuggestion dune = suggestion("Dune", "Frank Herbert");
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.of(hobbit, rings, dune));
+        suggestionService.buildIndex();
+
+        // When & Then
+        assertEquals(List.of(hobbit), suggestionService.suggest("hob", null));
+        assertEquals(2, suggestionService.suggest("tolk", null).size());
+        assertEquals(List.of(rings), suggestionService.suggest("tolkien lo", null));
+        assertEquals(List.of(dune), suggestionService.suggest("HERB", null));
+        assertTrue(suggestionService.suggest("xyz", null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Suggest - Folds Case And Accents")
+    void suggest_FoldsAccents() {
+        // Given
+        BookSuggestion book = suggestion("Les Misérables", "Victor Hugo");
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.of(book));
+        suggestionService.buildIndex();
+
+        // When & Then
+        assertEquals(List.of(book), suggestionService.suggest("miser", null));
+        assertEquals(List.of(book), suggestionService.suggest("Misé", null));
+    }
+
+    @Test
+    @DisplayName("Suggest - Respects Limit")
+    void suggest_RespectsLimit() {
+        // Given
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.of(
+                suggestion("Alpha", "A"), suggestion("Alphabet", "B"), suggestion("Alpine", "C")));
+        suggestionService.buildIndex();
+
+        // When & Then
+        assertEquals(2, suggestionService.suggest("al", 2).size());
+        assertThrows(IllegalArgumentException.class, () -> suggestionService.suggest("al", SuggestionService.MAX_LIMIT + 1));
+    }
+
+    @Test
+    @DisplayName("Suggest - Includes Books Registered After Startup")
+    void suggest_IncludesRegisteredBooks() {
+        // Given
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.empty());
+        suggestionService.buildIndex();
+        Book book = Book.builder().id(UUID.randomUUID()).title("Neuromancer").author("William Gibson").build();
+
+        // When
+        suggestionService.onBooksRegistered(new BooksRegisteredEvent(List.of(book)));
+
+        // Then
+        List<BookSuggestion> result = suggestionService.suggest("neuro", null);
+        assertEquals(1, result.size());
+        assertEquals(book.getId(), result.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Suggest - Delta Merged Into Base Keeps All Books")
+    void suggest_MergesDelta() {
+        // Given
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.of(suggestion("Zebra Base", "Z")));
+        suggestionService.buildIndex();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < SuggestionService.DELTA_MERGE_THRESHOLD; i++) {
+            books.add(Book.builder().id(UUID.randomUUID()).title("Zebra " + i).author("Author").build());
+        }
+
+        // When
+        suggestionService.onBooksRegistered(new BooksRegisteredEvent(books));
+        runMerges();
+
+        // Then
+        assertEquals(SuggestionService.MAX_LIMIT, suggestionService.suggest("zebra", SuggestionService.MAX_LIMIT).size());
+        assertEquals(1, suggestionService.suggest("zebra base", null).size());
+        assertEquals(1, suggestionService.suggest("zebra 255", null).size());
+    }
+
+    @Test
+    @DisplayName("Suggest - Full Delta Is Merged Off The Listener Thread")
+    void suggest_MergesDeltaInBackground() {
+        // Given
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.empty());
+        suggestionService.buildIndex();
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < SuggestionService.DELTA_MERGE_THRESHOLD; i++) {
+            books.add(Book.builder().id(UUID.randomUUID()).title("Quagga " + i).author("Author").build());
+        }
+        Book late = Book.builder().id(UUID.randomUUID()).title("Quokka").author("Author").build();
+
+        // When
+        suggestionService.onBooksRegistered(new BooksRegisteredEvent(books));
+        suggestionService.onBooksRegistered(new BooksRegisteredEvent(List.of(late)));
+
+        // Then
+        assertEquals(1, merges.size());
+        assertEquals(1, suggestionService.suggest("quagga 255", null).size());
+        assertEquals(1, suggestionService.suggest("quokka", null).size());
+        runMerges();
+        assertTrue(merges.isEmpty());
+        assertEquals(1, suggestionService.suggest("quagga 255", null).size());
+        assertEquals(1, suggestionService.suggest("quokka", null).size());
+    }
+
+    @Test
+    @DisplayName("Suggest - Keeps Books Registered While The Index Is Built")
+    void suggest_KeepsBooksRegisteredDuringBuild() {
+        // Given
+        BookSuggestion scanned = suggestion("Okapi Scanned", "Author");
+        when(bookRepository.streamSuggestions()).thenReturn(Stream.of(scanned));
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < SuggestionService.DELTA_MERGE_THRESHOLD; i++) {
+            books.add(Book.builder().id(UUID.randomUUID()).title("Okapi " + i).author("Author").build());
+        }
+
+        // When: a full delta is committed before the startup scan is published
+        suggestionService.onBooksRegistered(new BooksRegisteredEvent(books));
+        runMerges();
+        suggestionService.buildIndex();
+
+        // Then
+        assertEquals(1, merges.size());
+        assertEquals(1, suggestionService.suggest("okapi 255", null).size());
+        runMerges();
+        assertEquals(1, suggestionService.suggest("okapi 255", null).size());
+        assertEquals(1, suggestionService.suggest("okapi scanned", null).size());
+    }
+
+    private void runMerges() {
+        while (!merges.isEmpty()) {
+            merges.remove(0).run();
+        }
+    }
+
+    private static BookSuggestion suggestion(String title, String author) {
+        return new BookSuggestion(UUID.randomUUID(), title, author);
+    }
+}
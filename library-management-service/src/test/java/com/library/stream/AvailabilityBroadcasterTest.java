@@ -0,0 +1,123 @@
+package com.library.stream;
+
+import com.library.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityBroadcasterTest {
+
+    private static final String PAYLOAD = "{\"id\" : \"42\", \"status\" : \"BORROWED\", \"version\" : 3}";
+
+    private AvailabilityBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Publish - Sends The Payload As An Availability Event")
+    void publish_SendsEvent() throws Exception {
+        // Given
+        broadcaster = new AvailabilityBroadcaster(10, 8, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.register(emitter);
+
+        // When
+        broadcaster.publish(PAYLOAD);
+
+        // Then
+        assertEquals("event:availability\ndata:" + PAYLOAD + "\n\n", emitter.sent.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Publish - Evicts A Subscriber Whose Buffer Is Full")
+    void publish_EvictsSlowSubscriber() throws Exception {
+        // Given
+        broadcaster = new AvailabilityBroadcaster(10, 1, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+        broadcaster.publish(PAYLOAD);
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        assertNotNull(fast.sent.poll(5, TimeUnit.SECONDS));
+
+        // When
+        broadcaster.publish(PAYLOAD);
+        assertNotNull(fast.sent.poll(5, TimeUnit.SECONDS));
+        broadcaster.publish(PAYLOAD);
+        assertNotNull(fast.sent.poll(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(1, broadcaster.evictionCount());
+        assertEquals(1, broadcaster.subscriberCount());
+        release.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Subscribe - Rejects Subscribers Above The Limit")
+    void register_RejectsAboveLimit() {
+        // Given
+        broadcaster = new AvailabilityBroadcaster(1, 8, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        broadcaster.register(new RecordingEmitter());
+
+        // When / Then
+        assertThrows(ServiceOverloadedException.class, () -> broadcaster.register(new RecordingEmitter()));
+        assertEquals(1, broadcaster.subscriberCount());
+    }
+
+    /**
+     * Records what would be written to the response; with a latch, the first send blocks like
+     * a client that stopped reading.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            for (DataWithMediaType item : items) {
+                sent.add(new String((byte[]) item.getData(), StandardCharsets.UTF_8));
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+    }
+}
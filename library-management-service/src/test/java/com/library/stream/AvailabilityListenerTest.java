@@ -0,0 +1,57 @@
+package com.library.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.cache.JsonResponseCache;
+import com.library.dto.response.BookResponse;
+import com.library.versioning.ResourceVersion;
+import com.library.versioning.Versioned;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityListenerTest {
+
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 100, Duration.ofMinutes(5));
+    private final AvailabilityListener listener = new AvailabilityListener(new DataSourceProperties(), null, cache,
+            new ObjectMapper(), Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("Evict - Drops The Notified Book From The Response Cache")
+    void evict_InvalidatesNotifiedBook() {
+        // Given
+        UUID changed = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        cache.getBook(changed, () -> versioned(changed));
+        cache.getBook(other, () -> versioned(other));
+
+        // When
+        listener.evict("{\"id\" : \"" + changed + "\", \"status\" : \"BORROWED\", \"version\" : 3}");
+
+        // Then
+        assertNull(cache.getBookIfPresent(changed));
+        assertNotNull(cache.getBookIfPresent(other));
+    }
+
+    @Test
+    @DisplayName("Evict - Drops Every Book When The Payload Is Unreadable")
+    void evict_UnreadablePayloadInvalidatesAll() {
+        // Given
+        UUID id = UUID.randomUUID();
+        cache.getBook(id, () -> versioned(id));
+
+        // When
+        listener.evict("not json");
+
+        // Then
+        assertNull(cache.getBookIfPresent(id));
+    }
+
+    private static Versioned<BookResponse> versioned(UUID id) {
+        return new Versioned<>(BookResponse.builder().id(id).build(), new ResourceVersion(1L, 1_000L));
+    }
+}
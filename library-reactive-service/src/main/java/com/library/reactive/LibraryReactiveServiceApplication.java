@@ -0,0 +1,17 @@
+package com.library.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Read-only catalogue API served from a small event-loop pool. It shares the schema with
+ * library-management-service, which remains responsible for writes and migrations.
+ */
+@SpringBootApplication(scanBasePackages = "com.library")
+public class LibraryReactiveServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(LibraryReactiveServiceApplication.class, args);
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.library.reactive.controller;
+
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.PageResponse;
+import com.library.reactive.service.ReactiveLibraryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ReactiveLibraryController {
+
+    private final ReactiveLibraryService libraryService;
+
+    // --- Book Endpoints ---
+
+    @GetMapping("/books")
+    public Mono<PageResponse<BookResponse>> getAllBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return libraryService.getAllBooks(cursor, limit);
+    }
+
+    @GetMapping("/books/{id}")
+    public Mono<BookResponse> getBookById(@PathVariable UUID id) {
+        return libraryService.getBookById(id);
+    }
+
+    // --- Borrower Endpoints ---
+
+    @GetMapping("/borrowers/{id}")
+    public Mono<BorrowerResponse> getBorrowerById(@PathVariable UUID id) {
+        return libraryService.getBorrowerById(id);
+    }
+}
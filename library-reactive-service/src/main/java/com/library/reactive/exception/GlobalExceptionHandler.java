@@ -0,0 +1,49 @@
+package com.library.reactive.exception;
+
+import com.library.exception.BookNotFoundException;
+import com.library.exception.ErrorCode;
+import com.library.exception.ErrorResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(BookNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBookNotFoundException(BookNotFoundException ex, ServerHttpRequest request) {
+        return buildErrorResponse(ErrorCode.BOOK_NOT_FOUND, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex, ServerHttpRequest request) {
+        return buildErrorResponse(ErrorCode.INVALID_REQUEST, ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex, ServerHttpRequest request) {
+        // Malformed path variables or query parameters, e.g. a non-UUID id
+        return buildErrorResponse(ErrorCode.INVALID_REQUEST, ex.getReason(), request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, ServerHttpRequest request) {
+        return buildErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, ex.getMessage(), request);
+    }
+
+    private ResponseEntity<ErrorResponse> buildErrorResponse(ErrorCode errorCode, String message, ServerHttpRequest request) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(errorCode.getHttpStatus().value())
+                .errorCode(errorCode.getCode())
+                .error(errorCode.getHttpStatus().getReasonPhrase())
+                .message(message != null ? message : errorCode.getMessage())
+                .path(request.getPath().value())
+                .build();
+        return new ResponseEntity<>(errorResponse, errorCode.getHttpStatus());
+    }
+}
@@ -0,0 +1,65 @@
+package com.library.reactive.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.exception.ErrorCode;
+import com.library.exception.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux equivalent of the servlet {@code RequestFilter}: every request must carry an
+ * X-Correlation-Id header, which is echoed back on the response.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CorrelationIdWebFilter implements WebFilter {
+
+    private static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String correlationId = exchange.getRequest().getHeaders().getFirst(CORRELATION_ID_HEADER);
+        if (correlationId == null || correlationId.trim().isEmpty()) {
+            return handleMissingCorrelationId(exchange);
+        }
+        exchange.getResponse().getHeaders().set(CORRELATION_ID_HEADER, correlationId);
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> handleMissingCorrelationId(ServerWebExchange exchange) {
+        ErrorCode errorCode = ErrorCode.CORRELATION_ID_NOT_FOUND;
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(errorCode.getHttpStatus().value())
+                .errorCode(errorCode.getCode())
+                .error(errorCode.getHttpStatus().getReasonPhrase())
+                .message(errorCode.getMessage())
+                .path(exchange.getRequest().getPath().value())
+                .build();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(errorCode.getHttpStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(errorResponse);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to write error response", e);
+            return response.setComplete();
+        }
+    }
+}
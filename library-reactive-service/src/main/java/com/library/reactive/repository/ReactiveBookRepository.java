@@ -0,0 +1,27 @@
+package com.library.reactive.repository;
+
+import com.library.model.Book;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of {@code BookRepository}'s read queries. Columns are listed explicitly
+ * so the {@code search_vector} column is never decoded.
+ */
+public interface ReactiveBookRepository extends Repository<Book, UUID> {
+
+    String COLUMNS = "id, isbn, title, author, status, version, created_at, updated_at";
+
+    @Query("SELECT " + COLUMNS + " FROM books WHERE id = :id")
+    Mono<Book> findById(UUID id);
+
+    @Query("SELECT " + COLUMNS + " FROM books ORDER BY created_at, id LIMIT :limit")
+    Flux<Book> findFirstPage(int limit);
+
+    @Query("SELECT " + COLUMNS + " FROM books WHERE (created_at, id) > (:createdAt, :id) ORDER BY created_at, id LIMIT :limit")
+    Flux<Book> findPageAfter(long createdAt, UUID id, int limit);
+}
@@ -0,0 +1,14 @@
+package com.library.reactive.repository;
+
+import com.library.model.Borrower;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveBorrowerRepository extends Repository<Borrower, UUID> {
+
+    @Query("SELECT id, name, email, created_at, updated_at FROM borrowers WHERE id = :id")
+    Mono<Borrower> findById(UUID id);
+}
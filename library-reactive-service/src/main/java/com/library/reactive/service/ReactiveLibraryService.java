@@ -0,0 +1,59 @@
+package com.library.reactive.service;
+
+import com.library.dto.response.BookResponse;
+import com.library.dto.response.BorrowerResponse;
+import com.library.dto.response.PageResponse;
+import com.library.exception.BookNotFoundException;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.pagination.KeysetCursor;
+import com.library.pagination.Pages;
+import com.library.reactive.repository.ReactiveBookRepository;
+import com.library.reactive.repository.ReactiveBorrowerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking versions of the catalogue reads in {@code BookService} and {@code BorrowerService}.
+ * Responses, cursors and error messages are identical so clients can switch between the two APIs.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveLibraryService {
+
+    private final ReactiveBookRepository bookRepository;
+    private final ReactiveBorrowerRepository borrowerRepository;
+    private final LibraryMapper libraryMapper;
+
+    public Mono<BookResponse> getBookById(UUID id) {
+        return bookRepository.findById(id)
+                .map(libraryMapper::toBookResponse)
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException("Book not found with id: " + id)));
+    }
+
+    public Mono<BorrowerResponse> getBorrowerById(UUID id) {
+        return borrowerRepository.findById(id)
+                .map(libraryMapper::toBorrowerResponse)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Borrower not found with id: " + id)));
+    }
+
+    public Mono<PageResponse<BookResponse>> getAllBooks(String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = KeysetCursor.pageSize(limit);
+            Flux<Book> rows;
+            if (cursor == null || cursor.isBlank()) {
+                rows = bookRepository.findFirstPage(pageSize + 1);
+            } else {
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                rows = bookRepository.findPageAfter(after.getPosition(), after.getId(), pageSize + 1);
+            }
+            return rows.collectList()
+                    .map(page -> Pages.slice(page, pageSize, libraryMapper::toBookResponse,
+                            book -> new KeysetCursor(book.getCreatedAt(), book.getId())));
+        });
+    }
+}
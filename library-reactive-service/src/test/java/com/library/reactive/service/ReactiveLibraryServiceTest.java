@@ -0,0 +1,129 @@
+package com.library.reactive.service;
+
+import com.library.dto.response.BookResponse;
+import com.library.exception.BookNotFoundException;
+import com.library.mapper.LibraryMapper;
+import com.library.model.Book;
+import com.library.model.Borrower;
+import com.library.pagination.KeysetCursor;
+import com.library.reactive.repository.ReactiveBookRepository;
+import com.library.reactive.repository.ReactiveBorrowerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLibraryServiceTest {
+
+    @Mock
+    private ReactiveBookRepository bookRepository;
+
+    @Mock
+    private ReactiveBorrowerRepository borrowerRepository;
+
+    @Mock
+    private LibraryMapper libraryMapper;
+
+    @InjectMocks
+    private ReactiveLibraryService libraryService;
+
+    @Test
+    @DisplayName("Get Book By Id - Found")
+    void getBookById_Found() {
+        UUID id = UUID.randomUUID();
+        Book book = new Book();
+        book.setId(id);
+        BookResponse response = BookResponse.builder().id(id).build();
+
+        when(bookRepository.findById(id)).thenReturn(Mono.just(book));
+        when(libraryMapper.toBookResponse(book)).thenReturn(response);
+
+        StepVerifier.create(libraryService.getBookById(id))
+                .expectNext(response)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get Book By Id - Not Found")
+    void getBookById_NotFound() {
+        UUID id = UUID.randomUUID();
+        when(bookRepository.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(libraryService.getBookById(id))
+                .expectError(BookNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Get Borrower By Id - Not Found")
+    void getBorrowerById_NotFound() {
+        UUID id = UUID.randomUUID();
+        when(borrowerRepository.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(libraryService.getBorrowerById(id))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verify(libraryMapper, never()).toBorrowerResponse(any(Borrower.class));
+    }
+
+    @Test
+    @DisplayName("Get All Books - Extra Row Produces Next Cursor")
+    void getAllBooks_HasMore() {
+        Book first = book(1L);
+        Book second = book(2L);
+        when(bookRepository.findFirstPage(2)).thenReturn(Flux.just(first, second));
+        when(libraryMapper.toBookResponse(first)).thenReturn(BookResponse.builder().id(first.getId()).build());
+
+        StepVerifier.create(libraryService.getAllBooks(null, 1))
+                .assertNext(page -> {
+                    assertEquals(1, page.getItems().size());
+                    KeysetCursor next = KeysetCursor.decode(page.getNext());
+                    assertEquals(1L, next.getPosition());
+                    assertEquals(first.getId(), next.getId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get All Books - Cursor Seeks Past Last Row")
+    void getAllBooks_AfterCursor() {
+        UUID lastId = UUID.randomUUID();
+        String cursor = new KeysetCursor(5L, lastId).encode();
+        when(bookRepository.findPageAfter(5L, lastId, 21)).thenReturn(Flux.empty());
+
+        StepVerifier.create(libraryService.getAllBooks(cursor, null))
+                .assertNext(page -> {
+                    assertTrue(page.getItems().isEmpty());
+                    assertNull(page.getNext());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get All Books - Invalid Limit Is Reported As An Error Signal")
+    void getAllBooks_InvalidLimit() {
+        StepVerifier.create(libraryService.getAllBooks(null, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(bookRepository);
+    }
+
+    private Book book(long createdAt) {
+        Book book = new Book();
+        book.setId(UUID.randomUUID());
+        book.setCreatedAt(createdAt);
+        return book;
+    }
+}
@@ -0,0 +1,390 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Borrow/return contention test for the library service, driven through the real HTTP API.
+ * <p>
+ * Run with the JDK source launcher against a running service, e.g.
+ * {@code java load-tests/BorrowContention.java --url http://localhost:1212 --borrowers 500 --books 10 --duration 60}.
+ * It registers {@code books} fresh books and {@code borrowers} borrowers, then every borrower
+ * repeatedly picks a random book, tries to borrow it, and when that succeeds holds it for
+ * {@code hold-ms} before returning it. Afterwards the loan history of every book is checked:
+ * <ul>
+ *   <li>no book was successfully borrowed twice without a return in between, as seen by the client;</li>
+ *   <li>no loan is left open once every borrower has returned its book;</li>
+ *   <li>the service recorded exactly as many loans and returns as the client saw succeed.</li>
+ * </ul>
+ * Prints one JSON line and exits with status 1 when an invariant is violated.
+ * <p>
+ * {@code skewedLoanTimestamps} is reported but not treated as a violation: loan timestamps are
+ * taken when the request starts, before the statement waits for the book's row lock, so a
+ * borrow queued behind a return can carry a {@code borrowedAt} slightly earlier than the
+ * previous loan's {@code returnedAt}.
+ */
+public class BorrowContention {
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final Pattern LOAN = Pattern.compile("\"borrowedAt\":(\\d+),\"returnedAt\":(\\d+|null)");
+    private static final Pattern NEXT = Pattern.compile("\"next\":\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI base = URI.create(options.getOrDefault("url", "http://localhost:1212"));
+        int borrowers = Integer.parseInt(options.getOrDefault("borrowers", "200"));
+        int books = Integer.parseInt(options.getOrDefault("books", "10"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        long holdMs = Long.parseLong(options.getOrDefault("hold-ms", "5"));
+        long thinkMs = Long.parseLong(options.getOrDefault("think-ms", "0"));
+        String label = options.getOrDefault("label", "run");
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        List<String> bookIds = registerBooks(client, base, prefix, books);
+        List<String> borrowerIds = registerBorrowers(client, base, prefix, borrowers);
+
+        Contention contention = new Contention(client, base, bookIds, holdMs, thinkMs);
+        contention.run(borrowerIds, warmup, null);
+        Stats stats = new Stats();
+        contention.run(borrowerIds, duration, stats);
+
+        Audit audit = audit(client, base, bookIds, contention);
+        System.out.println(stats.toJson(label, borrowers, books, duration, contention, audit));
+        if (!audit.ok()) {
+            System.exit(1);
+        }
+    }
+
+    /** Shared state of the borrowers: who currently holds each book, as observed by the client. */
+    private static final class Contention {
+        private final HttpClient client;
+        private final URI base;
+        private final List<String> bookIds;
+        private final long holdMs;
+        private final long thinkMs;
+        private final AtomicReferenceArray<String> holders;
+        private final LongAdder borrowed = new LongAdder();
+        private final LongAdder returned = new LongAdder();
+        private final LongAdder doubleBorrows = new LongAdder();
+
+        Contention(HttpClient client, URI base, List<String> bookIds, long holdMs, long thinkMs) {
+            this.client = client;
+            this.base = base;
+            this.bookIds = bookIds;
+            this.holdMs = holdMs;
+            this.thinkMs = thinkMs;
+            this.holders = new AtomicReferenceArray<>(bookIds.size());
+        }
+
+        void run(List<String> borrowerIds, Duration duration, Stats stats) throws InterruptedException {
+            long deadline = System.nanoTime() + duration.toNanos();
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (String borrowerId : borrowerIds) {
+                    Recorder borrowLatency = stats == null ? null : stats.borrowRecorder();
+                    Recorder returnLatency = stats == null ? null : stats.returnRecorder();
+                    workers.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            int book = ThreadLocalRandom.current().nextInt(bookIds.size());
+                            if (borrow(book, borrowerId, borrowLatency, stats)) {
+                                pause(holdMs);
+                                giveBack(book, borrowerId, returnLatency, stats);
+                            }
+                            pause(thinkMs);
+                        }
+                        return null;
+                    });
+                }
+            }
+        }
+
+        private boolean borrow(int book, String borrowerId, Recorder latency, Stats stats) {
+            String path = "/api/v1/books/" + bookIds.get(book) + "/borrow?borrowerId=" + borrowerId;
+            int status = send(request(base, path).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    latency, stats == null ? null : stats.borrowStatuses);
+            if (status != 200) {
+                return false;
+            }
+            borrowed.increment();
+            if (!holders.compareAndSet(book, null, borrowerId)) {
+                doubleBorrows.increment();
+            }
+            return true;
+        }
+
+        private void giveBack(int book, String borrowerId, Recorder latency, Stats stats) {
+            // Released before the request is sent: once the return commits another borrower may
+            // legitimately succeed before this thread sees the response.
+            holders.compareAndSet(book, borrowerId, null);
+            String path = "/api/v1/books/" + bookIds.get(book) + "/return";
+            int status = send(request(base, path).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    latency, stats == null ? null : stats.returnStatuses);
+            if (status == 200) {
+                returned.increment();
+            }
+        }
+
+        private int send(HttpRequest request, Recorder latency, Map<Integer, LongAdder> statuses) {
+            long started = System.nanoTime();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (latency != null) {
+                    latency.record(System.nanoTime() - started);
+                    statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+                }
+                return status;
+            } catch (Exception ex) {
+                if (statuses != null) {
+                    statuses.computeIfAbsent(-1, key -> new LongAdder()).increment();
+                }
+                return -1;
+            }
+        }
+
+        private static void pause(long millis) {
+            if (millis <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record Audit(long loans, long closedLoans, long openLoans, long skewedTimestamps, long doubleBorrows,
+                         long borrowed, long returned) {
+
+        boolean ok() {
+            return doubleBorrows == 0 && openLoans == 0
+                    && loans == borrowed && closedLoans == returned;
+        }
+    }
+
+    private static Audit audit(HttpClient client, URI base, List<String> bookIds, Contention contention)
+            throws Exception {
+        long loans = 0;
+        long closed = 0;
+        long open = 0;
+        long skewed = 0;
+        for (String bookId : bookIds) {
+            List<long[]> history = new ArrayList<>();
+            String cursor = null;
+            do {
+                String path = "/api/v1/books/" + bookId + "/loans?limit=100" + (cursor == null ? "" : "&cursor=" + cursor);
+                String body = fetch(client, base, path);
+                Matcher loan = LOAN.matcher(body);
+                while (loan.find()) {
+                    long returnedAt = "null".equals(loan.group(2)) ? Long.MAX_VALUE : Long.parseLong(loan.group(2));
+                    history.add(new long[]{Long.parseLong(loan.group(1)), returnedAt});
+                }
+                Matcher next = NEXT.matcher(body);
+                cursor = next.find() ? next.group(1) : null;
+            } while (cursor != null);
+
+            history.sort((a, b) -> Long.compare(a[0], b[0]));
+            for (int i = 0; i < history.size(); i++) {
+                long[] current = history.get(i);
+                if (current[1] == Long.MAX_VALUE) {
+                    open++;
+                } else {
+                    closed++;
+                }
+                if (i + 1 < history.size() && current[1] > history.get(i + 1)[0]) {
+                    skewed++;
+                }
+            }
+            loans += history.size();
+        }
+        return new Audit(loans, closed, open, skewed, contention.doubleBorrows.sum(),
+                contention.borrowed.sum(), contention.returned.sum());
+    }
+
+    private static List<String> registerBooks(HttpClient client, URI base, String prefix, int count) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"isbn\":\"").append(prefix).append("-hot-").append(i)
+                    .append("\",\"title\":\"Hot Book ").append(i)
+                    .append("\",\"author\":\"Contention Test\"}");
+        }
+        body.append(']');
+        String response = post(client, base, "/api/v1/books/batch", body.toString(), 200);
+        List<String> ids = new ArrayList<>();
+        Matcher id = ID.matcher(response);
+        while (id.find()) {
+            ids.add(id.group(1));
+        }
+        if (ids.size() != count) {
+            throw new IllegalStateException("Expected " + count + " new books but got " + ids.size() + ": " + response);
+        }
+        return ids;
+    }
+
+    private static List<String> registerBorrowers(HttpClient client, URI base, String prefix, int count)
+            throws Exception {
+        String[] ids = new String[count];
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                workers.submit(() -> {
+                    String body = "{\"name\":\"Borrower " + index + "\",\"email\":\"" + prefix + "-" + index
+                            + "@contention.test\"}";
+                    Matcher id = ID.matcher(post(client, base, "/api/v1/borrowers", body, 201));
+                    if (!id.find()) {
+                        throw new IllegalStateException("Borrower response without id");
+                    }
+                    ids[index] = id.group(1);
+                    return null;
+                });
+            }
+        }
+        if (Arrays.stream(ids).anyMatch(id -> id == null)) {
+            throw new IllegalStateException("Registering borrowers failed");
+        }
+        return List.of(ids);
+    }
+
+    private static String post(HttpClient client, URI base, String path, String body, int expected) throws Exception {
+        HttpResponse<String> response = client.send(request(base, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expected) {
+            throw new IllegalStateException(path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static String fetch(HttpClient client, URI base, String path) throws Exception {
+        HttpResponse<String> response = client.send(request(base, path).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+
+    private static HttpRequest.Builder request(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Correlation-Id", UUID.randomUUID().toString());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static final class Recorder {
+        private long[] samples = new long[4096];
+        private int count;
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+    }
+
+    /** Measurement-phase latencies and status codes; warmup requests are not recorded. */
+    private static final class Stats {
+        private final List<Recorder> borrowRecorders = new ArrayList<>();
+        private final List<Recorder> returnRecorders = new ArrayList<>();
+        private final Map<Integer, LongAdder> borrowStatuses = new ConcurrentHashMap<>();
+        private final Map<Integer, LongAdder> returnStatuses = new ConcurrentHashMap<>();
+
+        Recorder borrowRecorder() {
+            Recorder recorder = new Recorder();
+            borrowRecorders.add(recorder);
+            return recorder;
+        }
+
+        Recorder returnRecorder() {
+            Recorder recorder = new Recorder();
+            returnRecorders.add(recorder);
+            return recorder;
+        }
+
+        String toJson(String label, int borrowers, int books, Duration measured, Contention contention, Audit audit) {
+            long[] borrows = merge(borrowRecorders);
+            long[] returns = merge(returnRecorders);
+            long conflicts = count(borrowStatuses, 409);
+            return String.format(
+                    "{\"label\":\"%s\",\"borrowers\":%d,\"books\":%d,\"holdMs\":%d,\"thinkMs\":%d,"
+                            + "\"requests\":%d,\"throughput\":%.1f,\"successfulBorrowsPerSec\":%.1f,\"conflictRate\":%.4f,"
+                            + "\"borrow\":%s,\"return\":%s,"
+                            + "\"invariants\":{\"ok\":%b,\"doubleBorrows\":%d,\"openLoans\":%d,"
+                            + "\"loansRecorded\":%d,\"borrowsSeen\":%d,\"returnsRecorded\":%d,\"returnsSeen\":%d},"
+                            + "\"skewedLoanTimestamps\":%d}",
+                    label, borrowers, books, contention.holdMs, contention.thinkMs,
+                    borrows.length + returns.length, (borrows.length + returns.length) / (double) measured.toSeconds(),
+                    count(borrowStatuses, 200) / (double) measured.toSeconds(),
+                    borrows.length == 0 ? 0 : conflicts / (double) borrows.length,
+                    latencyJson(borrows, borrowStatuses), latencyJson(returns, returnStatuses),
+                    audit.ok(), audit.doubleBorrows(), audit.openLoans(),
+                    audit.loans(), audit.borrowed(), audit.closedLoans(), audit.returned(), audit.skewedTimestamps());
+        }
+
+        private static long[] merge(List<Recorder> recorders) {
+            int total = recorders.stream().mapToInt(recorder -> recorder.count).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.samples, 0, all, offset, recorder.count);
+                offset += recorder.count;
+            }
+            Arrays.sort(all);
+            return all;
+        }
+
+        private static long count(Map<Integer, LongAdder> statuses, int status) {
+            LongAdder counter = statuses.get(status);
+            return counter == null ? 0 : counter.sum();
+        }
+
+        private static String latencyJson(long[] sorted, Map<Integer, LongAdder> statuses) {
+            StringBuilder codes = new StringBuilder("{");
+            statuses.forEach((code, counter) -> codes.append(codes.length() > 1 ? "," : "")
+                    .append('"').append(code).append("\":").append(counter.sum()));
+            codes.append('}');
+            return String.format("{\"requests\":%d,\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f,\"maxMs\":%.2f,\"statuses\":%s}",
+                    sorted.length, percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6, codes);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
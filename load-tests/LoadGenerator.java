@@ -0,0 +1,158 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator for the library service.
+ * <p>
+ * Run with the JDK source launcher, e.g.
+ * {@code java load-tests/LoadGenerator.java --url http://localhost:1212 --concurrency 400 --duration 60 --label virtual}.
+ * Each worker issues one request at a time on its own virtual thread, so the client is never
+ * the bottleneck. Prints throughput and latency percentiles as a single JSON line.
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI base = URI.create(options.getOrDefault("url", "http://localhost:1212"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        int seed = Integer.parseInt(options.getOrDefault("seed", "0"));
+        String path = options.getOrDefault("path", "/api/v1/books?limit=50");
+        String label = options.getOrDefault("label", "run");
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        if (seed > 0) {
+            seedBooks(client, base, seed);
+        }
+        run(client, base, path, concurrency, warmup);
+        Result result = run(client, base, path, concurrency, duration);
+        System.out.println(result.toJson(label, concurrency, duration));
+    }
+
+    private static Result run(HttpClient client, URI base, String path, int concurrency, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Recorder> recorders = new ArrayList<>();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        LongAdder failures = new LongAdder();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                Recorder recorder = new Recorder();
+                recorders.add(recorder);
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request(base, path).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            statuses.computeIfAbsent(response.statusCode(), key -> new LongAdder()).increment();
+                            recorder.record(System.nanoTime() - started);
+                        } catch (Exception ex) {
+                            failures.increment();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return new Result(recorders, statuses, failures.sum());
+    }
+
+    private static void seedBooks(HttpClient client, URI base, int count) throws Exception {
+        String prefix = UUID.randomUUID().toString().substring(0, 8);
+        for (int from = 0; from < count; from += 1000) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = from; i < Math.min(count, from + 1000); i++) {
+                if (i > from) {
+                    body.append(',');
+                }
+                body.append("{\"isbn\":\"").append(prefix).append('-').append(i)
+                        .append("\",\"title\":\"Load Test Book ").append(i)
+                        .append("\",\"author\":\"Author ").append(i % 100).append("\"}");
+            }
+            body.append(']');
+            HttpResponse<String> response = client.send(request(base, "/api/v1/books/batch")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+        }
+    }
+
+    private static HttpRequest.Builder request(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("X-Correlation-Id", UUID.randomUUID().toString());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static final class Recorder {
+        private long[] samples = new long[4096];
+        private int count;
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+    }
+
+    private record Result(List<Recorder> recorders, Map<Integer, LongAdder> statuses, long failures) {
+
+        String toJson(String label, int concurrency, Duration measured) {
+            int total = recorders.stream().mapToInt(recorder -> recorder.count).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.samples, 0, all, offset, recorder.count);
+                offset += recorder.count;
+            }
+            Arrays.sort(all);
+            StringBuilder codes = new StringBuilder("{");
+            statuses.forEach((code, counter) -> codes.append(codes.length() > 1 ? "," : "")
+                    .append('"').append(code).append("\":").append(counter.sum()));
+            codes.append('}');
+            return String.format(
+                    "{\"label\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"throughput\":%.1f,"
+                            + "\"p50Ms\":%.2f,\"p99Ms\":%.2f,\"p999Ms\":%.2f,\"maxMs\":%.2f,\"statuses\":%s,\"failures\":%d}",
+                    label, concurrency, total, total / (double) measured.toSeconds(),
+                    percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999),
+                    all.length == 0 ? 0 : all[all.length - 1] / 1e6, codes, failures);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Borrow/return contention test: starts the service against a local PostgreSQL, drives it with
+# load-tests/BorrowContention.java and fails when a correctness invariant is violated.
+# Start the database first with: docker-compose up -d postgres
+#
+# Tunables (environment): BORROWERS, HOT_BOOKS, DURATION, WARMUP, HOLD_MS, THINK_MS, PORT,
+# VIRTUAL_THREADS_ENABLED. SCENARIO=monday-rush presets a large crowd on a few popular titles;
+# explicitly set variables still win.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+case "${SCENARIO:-default}" in
+  monday-rush)
+    : "${BORROWERS:=500}" "${HOT_BOOKS:=20}" "${DURATION:=120}" "${HOLD_MS:=20}" "${THINK_MS:=50}" ;;
+  default) ;;
+  *) echo "Unknown SCENARIO: $SCENARIO" >&2; exit 2 ;;
+esac
+
+BORROWERS="${BORROWERS:-200}"
+HOT_BOOKS="${HOT_BOOKS:-10}"
+DURATION="${DURATION:-60}"
+WARMUP="${WARMUP:-10}"
+HOLD_MS="${HOLD_MS:-5}"
+THINK_MS="${THINK_MS:-0}"
+PORT="${PORT:-1212}"
+RESULTS="$ROOT/target/borrow-contention.jsonl"
+JAR="$ROOT/library-management-service/target/library-management-service-0.0.1-SNAPSHOT-exec.jar"
+
+(cd "$ROOT" && mvn -q -DskipTests -pl library-management-service -am package)
+mkdir -p "$ROOT/target/bench-logs"
+
+LOGS_ROOT="$ROOT/target/bench-logs" LOG_LEVEL=WARN \
+  java -jar "$JAR" --server.port="$PORT" &
+app=$!
+trap 'kill $app 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 60); do
+  if curl -fs -H "X-Correlation-Id: contention" "http://localhost:$PORT/api/v1/books?limit=1" > /dev/null; then
+    break
+  fi
+  sleep 1
+done
+
+status=0
+java "$ROOT/load-tests/BorrowContention.java" --url "http://localhost:$PORT" \
+  --borrowers "$BORROWERS" --books "$HOT_BOOKS" --duration "$DURATION" --warmup "$WARMUP" \
+  --hold-ms "$HOLD_MS" --think-ms "$THINK_MS" --label "${SCENARIO:-default}" | tee -a "$RESULTS" || status=$?
+
+echo "Results appended to $RESULTS"
+exit $status
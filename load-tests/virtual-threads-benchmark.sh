@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Compares request execution on platform threads vs virtual threads against the same local
+# PostgreSQL. Start the database first with: docker-compose up -d postgres
+#
+# Tunables (environment): CONCURRENCY, DURATION, WARMUP, SEED_BOOKS, BENCH_PATH, PORT
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+CONCURRENCY="${CONCURRENCY:-400}"
+DURATION="${DURATION:-60}"
+WARMUP="${WARMUP:-15}"
+SEED_BOOKS="${SEED_BOOKS:-5000}"
+BENCH_PATH="${BENCH_PATH:-/api/v1/books?limit=50}"
+PORT="${PORT:-1212}"
+RESULTS="$ROOT/target/virtual-threads-benchmark.jsonl"
+JAR="$ROOT/library-management-service/target/library-management-service-0.0.1-SNAPSHOT-exec.jar"
+
+(cd "$ROOT" && mvn -q -DskipTests -pl library-management-service -am package)
+mkdir -p "$ROOT/target/bench-logs"
+: > "$RESULTS"
+
+wait_for_app() {
+  for _ in $(seq 1 60); do
+    if curl -fs -H "X-Correlation-Id: bench" "http://localhost:$PORT/api/v1/books?limit=1" > /dev/null; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "Application did not start on port $PORT" >&2
+  return 1
+}
+
+seed=$SEED_BOOKS
+for mode in platform virtual; do
+  enabled=false
+  [ "$mode" = virtual ] && enabled=true
+  VIRTUAL_THREADS_ENABLED=$enabled LOGS_ROOT="$ROOT/target/bench-logs" LOG_LEVEL=WARN \
+    java -jar "$JAR" --server.port="$PORT" &
+  app=$!
+  trap 'kill $app 2>/dev/null || true' EXIT
+  wait_for_app
+
+  java "$ROOT/load-tests/LoadGenerator.java" --url "http://localhost:$PORT" --path "$BENCH_PATH" \
+    --concurrency "$CONCURRENCY" --duration "$DURATION" --warmup "$WARMUP" --seed "$seed" \
+    --label "$mode" | tee -a "$RESULTS"
+  seed=0
+
+  kill "$app"
+  wait "$app" 2>/dev/null || true
+done
+
+echo "Results written to $RESULTS"
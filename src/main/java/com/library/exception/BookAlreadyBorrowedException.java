@@ -1,9 +0,0 @@
-package com.library.exception;
-
-public class BookAlreadyBorrowedException extends RuntimeException {
-    public BookAlreadyBorrowedException(String message) {
-        super(message);
-    }
-}
-
-
@@ -1,9 +0,0 @@
-package com.library.exception;
-
-public class InvalidBookDataException extends RuntimeException {
-    public InvalidBookDataException(String message) {
-        super(message);
-    }
-}
-
-
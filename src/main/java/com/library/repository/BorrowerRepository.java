@@ -1,14 +0,0 @@
-package com.library.repository;
-
-import com.library.model.Borrower;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
-import java.util.UUID;
-
-@Repository
-public interface BorrowerRepository extends JpaRepository<Borrower, UUID> {
-    Optional<Borrower> findByEmail(String email);
-}
-
@@ -1,51 +0,0 @@
-package com.library.service;
-
-import com.library.dto.request.BookRequest;
-import com.library.dto.response.BookResponse;
-import com.library.exception.InvalidBookDataException;
-import com.library.mapper.LibraryMapper;
-import com.library.model.Book;
-import com.library.repository.BookRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-
-@Service
-@RequiredArgsConstructor
-@Slf4j
-public class BookService {
-
-    private final BookRepository bookRepository;
-    private final LibraryMapper libraryMapper;
-
-    @Transactional
-    public BookResponse registerBook(BookRequest request) {
-        log.debug("Checking if book with ISBN {} exists", request.getIsbn());
-        if (bookRepository.findByIsbn(request.getIsbn()).isPresent()) {
-            log.warn("Book with ISBN {} already exists", request.getIsbn());
-            throw new InvalidBookDataException("Book with ISBN " + request.getIsbn() + " already exists.");
-        }
-        Book book = libraryMapper.toBook(request);
-        Book savedBook = bookRepository.save(book);
-        log.info("Book registered successfully with ID: {}", savedBook.getId());
-        return libraryMapper.toBookResponse(savedBook);
-    }
-
-    @Transactional(readOnly = true)
-    public List<BookResponse> getAllBooks() {
-        return bookRepository.findAll().stream()
-                .map(libraryMapper::toBookResponse)
-                .toList();
-    }
-
-    @Transactional(readOnly = true)
-    public BookResponse getBookById(java.util.UUID id) {
-        return bookRepository.findById(id)
-                .map(libraryMapper::toBookResponse)
-                .orElseThrow(() -> new com.library.exception.BookNotFoundException("Book not found with id: " + id));
-    }
-}
-